@@ -0,0 +1,132 @@
+package com.example.demo.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.service.PostSearchIndex;
+import com.example.demo.service.ScheduleBulkService;
+import com.example.demo.service.ScheduleTransferFormat;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트와 시드 데이터
+ * - 웹 서버 없이 임베디드 H2 메모리 DB로 기동
+ * - 일정은 하루 96개(15분 간격, 10분 길이) 겹치지 않게 배치
+ */
+final class BenchmarkContext {
+
+    static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+    static final int SLOTS_PER_DAY = 96;
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+    private static final String[] WORDS = {
+            "합주", "연습", "공연", "밴드", "기타", "드럼", "베이스", "보컬", "키보드", "악보",
+            "리허설", "녹음", "편곡", "세트리스트", "앰프", "이펙터", "연습실", "정기공연", "버스킹", "오디션"
+    };
+    private static final String[] AUTHORS = {"홍길동", "김철수", "이영희", "박민수", "최지우"};
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String name, String... profiles) {
+        return builder(name).web(WebApplicationType.NONE).profiles(profiles).run();
+    }
+
+    /**
+     * persistent 프로필(H2 파일 DB + Flyway)로 기동
+     */
+    static ConfigurableApplicationContext startPersistent(Path storageDir) {
+        return builder("persistent")
+                .web(WebApplicationType.NONE)
+                .profiles("persistent")
+                .properties("app.storage.dir=" + storageDir.toAbsolutePath())
+                .run();
+    }
+
+    /**
+     * 임의 포트로 웹 서버까지 기동 (부하 측정용)
+     */
+    static ConfigurableApplicationContext startWeb(String name, String... profiles) {
+        return builder(name)
+                .web(WebApplicationType.SERVLET)
+                .profiles(profiles)
+                .properties("server.port=0")
+                .run();
+    }
+
+    private static SpringApplicationBuilder builder(String name) {
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=jdbc:h2:mem:" + name + DATABASE_SEQUENCE.incrementAndGet(),
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN");
+    }
+
+    static LocalDate scheduleDate(int index) {
+        return BASE_DATE.plusDays(index / SLOTS_PER_DAY);
+    }
+
+    static LocalTime scheduleStart(int index) {
+        return LocalTime.MIDNIGHT.plusMinutes((long) (index % SLOTS_PER_DAY) * 15);
+    }
+
+    static void seedSchedules(ConfigurableApplicationContext context, int count) {
+        try (BufferedReader reader = new BufferedReader(new GeneratedScheduleCsv(count))) {
+            context.getBean(ScheduleBulkService.class).importSchedules(reader, ScheduleTransferFormat.CSV);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void seedPosts(ConfigurableApplicationContext context, int count) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Random random = new Random(42);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 0; i < count; i++) {
+            Timestamp timestamp = Timestamp.valueOf(createdAt.plusMinutes(i));
+            batch.add(new Object[] {
+                    sentence(random, 4), AUTHORS[random.nextInt(AUTHORS.length)], sentence(random, 60),
+                    timestamp, timestamp
+            });
+            if (batch.size() == 1000 || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO posts (title, author, content, created_at, updated_at, views, version) "
+                        + "VALUES (?, ?, ?, ?, ?, 0, 0)", batch);
+                batch.clear();
+            }
+        }
+        context.getBean(PostSearchIndex.class).rebuild();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextInt(4) == 0) {
+                sentence.append(random.nextBoolean() ? "을" : "에서");
+            }
+        }
+        return sentence.toString();
+    }
+}
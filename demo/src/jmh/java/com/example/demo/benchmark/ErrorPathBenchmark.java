@@ -0,0 +1,119 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ * 오류 응답 경로 부하
+ * - 없는 게시글/일정 ID(404), 형식이 틀린 날짜와 범위를 벗어난 월(400)을 동시 클라이언트 50개가 반복 호출
+ * - 기록된 WARN 이상 로그 건수를 측정이 끝날 때 요청 수와 함께 출력 (요약 로그가 동작하면 요청 수와 무관하게 적음)
+ *
+ * ./gradlew jmh -PjmhIncludes=ErrorPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(50)
+public class ErrorPathBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest missingPost;
+    private HttpRequest missingSchedule;
+    private HttpRequest malformedDate;
+    private HttpRequest invalidMonth;
+    private CountingAppender appender;
+    private final AtomicLong requests = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.startWeb("errors");
+        BenchmarkContext.seedSchedules(context, 1_000);
+        BenchmarkContext.seedPosts(context, 100);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://localhost:" + port;
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        missingPost = HttpRequest.newBuilder(URI.create(baseUrl + "/posts/999999999")).build();
+        missingSchedule = HttpRequest.newBuilder(URI.create(baseUrl + "/schedules/999999999/edit")).build();
+        malformedDate = HttpRequest.newBuilder(URI.create(baseUrl + "/schedules/daily/2025-13-45")).build();
+        invalidMonth = HttpRequest.newBuilder(URI.create(baseUrl + "/schedules/api/monthly?year=2025&month=13")).build();
+
+        appender = new CountingAppender();
+        appender.start();
+        rootLogger().addAppender(appender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        rootLogger().detachAppender(appender);
+        System.out.printf("%n%d error requests, %d WARN/ERROR log events%n", requests.get(), appender.events.get());
+        context.close();
+    }
+
+    @Benchmark
+    public int missingPost() throws IOException, InterruptedException {
+        return send(missingPost);
+    }
+
+    @Benchmark
+    public int missingSchedule() throws IOException, InterruptedException {
+        return send(missingSchedule);
+    }
+
+    @Benchmark
+    public int malformedDate() throws IOException, InterruptedException {
+        return send(malformedDate);
+    }
+
+    @Benchmark
+    public int invalidMonth() throws IOException, InterruptedException {
+        return send(invalidMonth);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        requests.incrementAndGet();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static Logger rootLogger() {
+        return (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    }
+
+    private static final class CountingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final AtomicLong events = new AtomicLong();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            if (event.getLevel().isGreaterOrEqual(Level.WARN)) {
+                events.incrementAndGet();
+            }
+        }
+    }
+}
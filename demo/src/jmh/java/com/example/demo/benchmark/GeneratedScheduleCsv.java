@@ -0,0 +1,45 @@
+package com.example.demo.benchmark;
+
+import java.io.Reader;
+
+/**
+ * 일정 CSV를 필요할 때마다 한 줄씩 만들어 주는 Reader
+ * - 100만 행 입력도 메모리에 미리 만들지 않음
+ */
+final class GeneratedScheduleCsv extends Reader {
+
+    private final int rows;
+    private int next;
+    private String current = "";
+    private int position;
+
+    GeneratedScheduleCsv(int rows) {
+        this.rows = rows;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        if (position == current.length()) {
+            if (next == rows) {
+                return -1;
+            }
+            current = line(next++);
+            position = 0;
+        }
+        int count = Math.min(length, current.length() - position);
+        current.getChars(position, position + count, buffer, offset);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static String line(int index) {
+        return "밴드" + (index % 50) + ",\"홍길동, 김철수\","
+                + BenchmarkContext.scheduleDate(index) + ','
+                + BenchmarkContext.scheduleStart(index) + ','
+                + BenchmarkContext.scheduleStart(index).plusMinutes(10) + '\n';
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.benchmark;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.example.demo.dto.PostDetailDto;
+import com.example.demo.entity.Post;
+import com.example.demo.repository.PostRepository;
+import com.example.demo.service.PostSearchField;
+import com.example.demo.service.PostService;
+
+/**
+ * 게시글 검색: n-gram 역색인 vs LIKE '%keyword%' 전체 스캔, 상세 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostServiceBenchmark {
+
+    private static final String KEYWORD = "리허설";
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private PostRepository postRepository;
+    private long minId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("posts");
+        BenchmarkContext.seedPosts(context, size);
+        postService = context.getBean(PostService.class);
+        postRepository = context.getBean(PostRepository.class);
+        minId = postRepository.findAll(PageRequest.of(0, 1, Sort.by("id"))).getContent().get(0).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Post> searchByTitle() {
+        return postService.searchByTitle(KEYWORD);
+    }
+
+    @Benchmark
+    public List<Post> searchByTitleLike() {
+        return postRepository.findByTitleContaining(KEYWORD);
+    }
+
+    @Benchmark
+    public Page<Post> searchAllFieldsFirstPage() {
+        return postService.search(KEYWORD, EnumSet.allOf(PostSearchField.class), PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public PostDetailDto getPostByIdAndIncrementViews() {
+        return postService.getPostByIdAndIncrementViews(minId + ThreadLocalRandom.current().nextInt(size));
+    }
+}
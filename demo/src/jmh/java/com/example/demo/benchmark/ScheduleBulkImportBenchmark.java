@@ -0,0 +1,59 @@
+package com.example.demo.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.dto.ScheduleImportResultDto;
+import com.example.demo.service.ScheduleBulkService;
+import com.example.demo.service.ScheduleTransferFormat;
+
+/**
+ * 일정 일괄 등록 처리량 (행 수 / 측정 시간)
+ * - 매 반복마다 빈 DB로 새로 기동하여 충돌 없이 전체 행을 등록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ScheduleBulkImportBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ScheduleBulkService scheduleBulkService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        context = BenchmarkContext.start("import");
+        scheduleBulkService = context.getBean(ScheduleBulkService.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ScheduleImportResultDto importCsv() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new GeneratedScheduleCsv(rows))) {
+            return scheduleBulkService.importSchedules(reader, ScheduleTransferFormat.CSV);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.entity.Schedule;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduleMappingBenchmark {
+
+    private Schedule schedule;
+
+    @Setup
+    public void setUp() {
+        schedule = Schedule.builder()
+                .id(1L)
+                .teamName("밴드1")
+                .teamMembers("홍길동, 김철수, 이영희")
+                .scheduleDate(LocalDate.of(2025, 3, 1))
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(12, 0))
+                .createdAt(LocalDateTime.of(2025, 2, 1, 9, 0))
+                .updatedAt(LocalDateTime.of(2025, 2, 1, 9, 0))
+                .build();
+    }
+
+    @Benchmark
+    public ScheduleResponseDto fromEntity() {
+        return ScheduleResponseDto.fromEntity(schedule);
+    }
+}
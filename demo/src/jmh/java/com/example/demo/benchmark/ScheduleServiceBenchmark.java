@@ -0,0 +1,74 @@
+package com.example.demo.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.service.ScheduleMonthCache;
+import com.example.demo.service.ScheduleService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private ScheduleService scheduleService;
+    private ScheduleMonthCache monthCache;
+    private LocalDate date;
+    private YearMonth month;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("schedules");
+        BenchmarkContext.seedSchedules(context, size);
+        scheduleService = context.getBean(ScheduleService.class);
+        monthCache = context.getBean(ScheduleMonthCache.class);
+        date = BenchmarkContext.scheduleDate(size / 2);
+        month = YearMonth.from(date);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ScheduleResponseDto> getSchedulesByMonth() {
+        return scheduleService.getSchedulesByMonth(month.getYear(), month.getMonthValue());
+    }
+
+    @Benchmark
+    public List<ScheduleResponseDto> getSchedulesByMonthUncached() {
+        monthCache.evict(month);
+        return scheduleService.getSchedulesByMonth(month.getYear(), month.getMonthValue());
+    }
+
+    @Benchmark
+    public List<ScheduleResponseDto> getSchedulesByDate() {
+        return scheduleService.getSchedulesByDate(date);
+    }
+
+    @Benchmark
+    public boolean hasOverlappingSchedule() {
+        return scheduleService.hasOverlappingSchedule(date, LocalTime.of(12, 5), LocalTime.of(12, 20), null);
+    }
+}
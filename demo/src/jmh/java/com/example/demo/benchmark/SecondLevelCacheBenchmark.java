@@ -0,0 +1,125 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.entity.Post;
+import com.example.demo.service.PostService;
+import com.example.demo.service.ScheduleService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 2차 캐시 비교: 기본 vs l2cache 프로필
+ * - ID 조회, 수정 폼 열기 + 같은 내용 저장(조회 2회)의 지연
+ * - 요청당 DB 왕복 수(Hibernate가 준비한 JDBC 문장 수)는 각 측정이 끝날 때 출력
+ * - 조회 대상은 앞쪽 hotSet개 ID 중에서 골라, 같은 일정/게시글을 여러 사용자가 반복해 여는 상황을 재현
+ *
+ * ./gradlew jmh -PjmhIncludes=SecondLevelCacheBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecondLevelCacheBenchmark {
+
+    @Param({"default", "l2cache"})
+    private String profile;
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"500"})
+    private int hotSet;
+
+    private ConfigurableApplicationContext context;
+    private ScheduleService scheduleService;
+    private PostService postService;
+    private Statistics statistics;
+    private List<Long> scheduleIds;
+    private List<Long> postIds;
+    private long startStatements;
+    private long operations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "l2cache".equals(profile)
+                ? BenchmarkContext.start("l2cache", "l2cache")
+                : BenchmarkContext.start("l2cache");
+        BenchmarkContext.seedSchedules(context, size);
+        BenchmarkContext.seedPosts(context, size);
+        scheduleService = context.getBean(ScheduleService.class);
+        postService = context.getBean(PostService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        scheduleIds = jdbcTemplate.queryForList("SELECT id FROM schedule ORDER BY id LIMIT ?", Long.class, hotSet);
+        postIds = jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id LIMIT ?", Long.class, hotSet);
+
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        startStatements = statistics.getPrepareStatementCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long statements = statistics.getPrepareStatementCount() - startStatements;
+        System.out.printf("%n[%s] %.2f statements per request (%d requests), L2 hit ratio %.2f%n",
+                profile, operations == 0 ? 0.0 : (double) statements / operations, operations,
+                hitRatio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()));
+        context.close();
+    }
+
+    @Benchmark
+    public ScheduleResponseDto getScheduleById() {
+        operations++;
+        return scheduleService.getScheduleById(pick(scheduleIds));
+    }
+
+    @Benchmark
+    public Post getPostById() {
+        operations++;
+        return postService.getPostById(pick(postIds));
+    }
+
+    /**
+     * 수정 폼 열기(getScheduleById) 후 같은 내용으로 저장(updateSchedule 안에서 다시 findById)
+     */
+    @Benchmark
+    public ScheduleResponseDto editSchedule() {
+        operations++;
+        Long id = pick(scheduleIds);
+        ScheduleResponseDto schedule = scheduleService.getScheduleById(id);
+        return scheduleService.updateSchedule(id, ScheduleRequestDto.builder()
+                .version(schedule.getVersion())
+                .teamName(schedule.getTeamName())
+                .teamMembers(schedule.getTeamMembers())
+                .scheduleDate(schedule.getScheduleDate())
+                .startTime(schedule.getStartTime())
+                .endTime(schedule.getEndTime())
+                .build());
+    }
+
+    private static Long pick(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        return hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+    }
+}
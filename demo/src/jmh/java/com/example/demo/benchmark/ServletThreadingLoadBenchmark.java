@@ -0,0 +1,75 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 비교
+ * - 동시 클라이언트 200개가 JDBC를 거치는 일별 조회 API와 게시글 상세 페이지를 호출
+ * - Throughput(초당 요청 수)과 SampleTime(p50/p99 응답 시간)을 함께 기록
+ * - virtual은 Java 21 이상에서 실행해야 의미가 있음 (-PjavaVersion=21)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(200)
+public class ServletThreadingLoadBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest dailyRequest;
+    private HttpRequest postRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = "virtual".equals(threading)
+                ? BenchmarkContext.startWeb("load", "virtual-threads")
+                : BenchmarkContext.startWeb("load");
+        BenchmarkContext.seedSchedules(context, 10_000);
+        BenchmarkContext.seedPosts(context, 1_000);
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://localhost:" + port;
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        dailyRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/schedules/api/daily/"
+                + BenchmarkContext.scheduleDate(5_000))).build();
+        postRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/posts/1")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int dailySchedulesApi() throws IOException, InterruptedException {
+        return client.send(dailyRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int postDetailPage() throws IOException, InterruptedException {
+        return client.send(postRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.entity.Schedule;
+import com.example.demo.repository.ScheduleRepository;
+
+/**
+ * 저장소 구성 비교: 기본(H2 메모리 + ddl-auto) vs persistent(H2 파일 + Flyway + 고정 풀)
+ * - startup: 컨텍스트 기동 시간 (persistent는 첫 반복에서 마이그레이션, 이후는 재기동)
+ * - 조회: 캐시를 거치지 않는 리포지토리 쿼리 지연 (복합 인덱스 사용)
+ *
+ * ./gradlew jmh -PjmhIncludes=StorageProfileBenchmark
+ */
+public class StorageProfileBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public void startup(StartupState state) {
+        state.start().close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Schedule> findByDate(QueryState state) {
+        return state.scheduleRepository.findByScheduleDateOrderByStartTimeAsc(state.date);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<ScheduleResponseDto> findByMonthRange(QueryState state) {
+        return state.scheduleRepository.findResponsesBetween(
+                state.date.withDayOfMonth(1), state.date.withDayOfMonth(state.date.lengthOfMonth()));
+    }
+
+    @State(Scope.Benchmark)
+    public static class StartupState {
+
+        @Param({"memory", "persistent"})
+        private String storage;
+
+        private Path storageDir;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            storageDir = Files.createTempDirectory("demo-storage");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            deleteRecursively(storageDir);
+        }
+
+        ConfigurableApplicationContext start() {
+            return "persistent".equals(storage)
+                    ? BenchmarkContext.startPersistent(storageDir)
+                    : BenchmarkContext.start("storage");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class QueryState {
+
+        @Param({"memory", "persistent"})
+        private String storage;
+
+        @Param({"100000"})
+        private int size;
+
+        private Path storageDir;
+        private ConfigurableApplicationContext context;
+        private ScheduleRepository scheduleRepository;
+        private LocalDate date;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            storageDir = Files.createTempDirectory("demo-storage");
+            context = "persistent".equals(storage)
+                    ? BenchmarkContext.startPersistent(storageDir)
+                    : BenchmarkContext.start("storage");
+            BenchmarkContext.seedSchedules(context, size);
+            scheduleRepository = context.getBean(ScheduleRepository.class);
+            date = BenchmarkContext.scheduleDate(size / 2);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+            deleteRecursively(storageDir);
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
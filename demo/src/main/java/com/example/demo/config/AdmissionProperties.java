@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청 수락 제어 설정 (app.admission.*)
+ *
+ * @param enabled           false이면 모든 요청을 그대로 처리
+ * @param clientIdleTimeout 이 시간 동안 요청이 없는 클라이언트의 버킷은 버림
+ * @param maxClients        한도별로 기억하는 최대 클라이언트 수
+ * @param limits            한도 이름(@AdmissionControlled 값)별 설정
+ */
+@ConfigurationProperties("app.admission")
+public record AdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration clientIdleTimeout,
+        @DefaultValue("10000") long maxClients,
+        Map<String, Limit> limits
+) {
+
+    public AdmissionProperties {
+        limits = limits == null ? Map.of() : Map.copyOf(limits);
+    }
+
+    /**
+     * @param ratePerSecond 클라이언트당 초당 허용 요청 수 (0이면 빈도 제한 없음)
+     * @param burst         클라이언트당 연속으로 허용하는 요청 수
+     * @param maxConcurrent 모든 클라이언트를 합한 동시 처리 상한 (0이면 제한 없음)
+     */
+    public record Limit(
+            @DefaultValue("0") double ratePerSecond,
+            @DefaultValue("1") int burst,
+            @DefaultValue("0") int maxConcurrent
+    ) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.demo.config;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * 서비스/리포지토리 호출 계측
+ *
+ * - 서비스 메서드: Observation(app.service)으로 감싸 메서드별 타이머와 히스토그램을 남기고,
+ *   트레이서가 있으면 같은 Observation이 스팬으로도 기록됨
+ * - 리포지토리 메서드: 호출 수(app.repository.queries)와 반환 행 수 분포(app.repository.rows)
+ * - 호출 로그는 app.metrics.call-log.sample-rate 비율로만 구조화 로그(key-value)로 남김
+ */
+@Aspect
+@Component
+public class HotPathMetricsAspect {
+
+    private static final Logger callLog = LoggerFactory.getLogger("com.example.demo.calls");
+
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final double callLogSampleRate;
+    private final Map<Method, RepositoryMeters> repositoryMeters = new ConcurrentHashMap<>();
+
+    public HotPathMetricsAspect(
+            ObservationRegistry observationRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.call-log.sample-rate:0}") double callLogSampleRate
+    ) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+        this.callLogSampleRate = callLogSampleRate;
+    }
+
+    @Around("execution(public * com.example.demo.service.ScheduleService+.*(..))"
+            + " || execution(public * com.example.demo.service.PostService.*(..))")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        boolean sampled = callLogSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < callLogSampleRate;
+        long startedAt = sampled ? System.nanoTime() : 0L;
+        String outcome = "error";
+        try {
+            Object result = Observation.createNotStarted("app.service", observationRegistry)
+                    .contextualName(service + "#" + method)
+                    .lowCardinalityKeyValue("service", service)
+                    .lowCardinalityKeyValue("method", method)
+                    .observeChecked(joinPoint::proceed);
+            outcome = "success";
+            return result;
+        } finally {
+            if (sampled) {
+                callLog.atInfo()
+                        .addKeyValue("service", service)
+                        .addKeyValue("method", method)
+                        .addKeyValue("outcome", outcome)
+                        .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                        .log("service call");
+            }
+        }
+    }
+
+    @Around("bean(*Repository)")
+    public Object countRepositoryQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryMeters meters = repositoryMeters.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> registerRepositoryMeters(repositoryName(joinPoint.getThis()), method.getName()));
+        meters.queries().increment();
+
+        Object result = joinPoint.proceed();
+        long rows = rowCount(result);
+        if (rows >= 0) {
+            meters.rows().record(rows);
+        }
+        return result;
+    }
+
+    private RepositoryMeters registerRepositoryMeters(String repository, String method) {
+        Counter queries = Counter.builder("app.repository.queries")
+                .description("Repository method invocations")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry);
+        DistributionSummary rows = DistributionSummary.builder("app.repository.rows")
+                .description("Rows returned by repository queries")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        return new RepositoryMeters(queries, rows);
+    }
+
+    /**
+     * 프록시가 구현한 애플리케이션 리포지토리 인터페이스 이름 (없으면 클래스 이름)
+     */
+    private static String repositoryName(Object proxy) {
+        for (Class<?> type : proxy.getClass().getInterfaces()) {
+            if (type.getPackageName().startsWith("com.example.demo")) {
+                return type.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(proxy).getSimpleName();
+    }
+
+    /**
+     * 반환 행 수 (목록/페이지/Optional만 집계, 스트림이나 단건 쓰기는 -1)
+     */
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    private record RepositoryMeters(Counter queries, DistributionSummary rows) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.demo.controller.AdmissionControlInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MVC 설정: 요청 수락 제어 인터셉터 등록
+ */
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionControlInterceptor);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.controller;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.example.demo.config.AdmissionProperties;
+import com.example.demo.exception.ExpectedErrorLog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 수락 제어
+ *
+ * {@link AdmissionControlled} 핸들러에 대해 클라이언트(IP)별 토큰 버킷과 한도별 동시 처리 상한을 검사하고,
+ * 넘으면 컨트롤러/서비스를 거치지 않고 바로 429(Retry-After 포함)로 응답한다.
+ * 검색이나 쓰기 요청이 몰려도 커넥션 풀을 다 쓰지 않아 달력 조회가 계속 처리된다.
+ * 프록시 뒤에서는 server.forward-headers-strategy를 설정해야 실제 클라이언트 IP로 구분된다.
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String ADMITTED_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".ADMITTED";
+    private static final long MIN_RETRY_AFTER_SECONDS = 1;
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExpectedErrorLog expectedErrorLog;
+    private final Map<String, Optional<AdmissionLimiter>> limiters = new ConcurrentHashMap<>();
+
+    public AdmissionControlInterceptor(AdmissionProperties properties, MeterRegistry meterRegistry,
+                                       ExpectedErrorLog expectedErrorLog) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.expectedErrorLog = expectedErrorLog;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!properties.enabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        AdmissionControlled admission = handlerMethod.getMethodAnnotation(AdmissionControlled.class);
+        if (admission == null || !applies(admission, request)) {
+            return true;
+        }
+        Optional<AdmissionLimiter> limiter = limiters.computeIfAbsent(admission.value(), this::createLimiter);
+        if (limiter.isEmpty()) {
+            return true;
+        }
+
+        String client = request.getRemoteAddr();
+        AdmissionLimiter.Decision decision = limiter.get().tryAcquire(client);
+        if (decision == AdmissionLimiter.Decision.ADMITTED) {
+            request.setAttribute(ADMITTED_ATTRIBUTE, limiter.get());
+            return true;
+        }
+
+        String reason = decision == AdmissionLimiter.Decision.RATE_LIMITED ? "rate" : "concurrency";
+        meterRegistry.counter("app.admission.rejected", "limit", admission.value(), "reason", reason).increment();
+        expectedErrorLog.record("admission-" + reason, admission.value() + " " + client);
+        reject(response, decision == AdmissionLimiter.Decision.RATE_LIMITED
+                ? limiter.get().retryAfter(client).toSeconds() + 1
+                : MIN_RETRY_AFTER_SECONDS);
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(ADMITTED_ATTRIBUTE) instanceof AdmissionLimiter limiter) {
+            request.removeAttribute(ADMITTED_ATTRIBUTE);
+            limiter.release();
+        }
+    }
+
+    private static boolean applies(AdmissionControlled admission, HttpServletRequest request) {
+        if (admission.whenParam().isEmpty()) {
+            return true;
+        }
+        String value = request.getParameter(admission.whenParam());
+        return value != null && !value.isBlank();
+    }
+
+    private Optional<AdmissionLimiter> createLimiter(String name) {
+        AdmissionProperties.Limit limit = properties.limits().get(name);
+        if (limit == null) {
+            return Optional.empty();
+        }
+        AdmissionLimiter limiter = new AdmissionLimiter(limit, properties.clientIdleTimeout(),
+                properties.maxClients(), System::nanoTime);
+        Gauge.builder("app.admission.in-flight", limiter, AdmissionLimiter::inFlight)
+                .description("Requests currently admitted under an admission limit")
+                .tag("limit", name)
+                .register(meterRegistry);
+        return Optional.of(limiter);
+    }
+
+    /**
+     * 본문 렌더링 없이 짧은 텍스트로 429 응답
+     */
+    private static void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(retryAfterSeconds, MIN_RETRY_AFTER_SECONDS)));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("요청이 많아 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.demo.controller;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클라이언트별 요청 빈도 제한과 동시 처리 상한을 적용할 핸들러 표시
+ * - 한도는 app.admission.limits.{value}.* 속성으로 설정 (설정이 없으면 제한하지 않음)
+ * - 한도를 넘은 요청은 대기시키지 않고 바로 429로 응답
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionControlled {
+
+    /**
+     * 한도 이름 (같은 이름의 핸들러는 한도를 공유)
+     */
+    String value();
+
+    /**
+     * 이 요청 파라미터가 비어 있지 않을 때만 적용 (빈 문자열이면 항상 적용)
+     */
+    String whenParam() default "";
+}
@@ -0,0 +1,128 @@
+package com.example.demo.controller;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.example.demo.config.AdmissionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 한도 하나의 상태: 클라이언트별 토큰 버킷 + 한도 전체의 동시 처리 수(bulkhead)
+ *
+ * 토큰 버킷은 다음 토큰이 생기는 이론적 시각(GCRA) 하나를 AtomicLong에 두고 CAS로 갱신하므로
+ * 락 없이 판정한다. 클라이언트 버킷은 일정 시간 요청이 없으면 버려진다.
+ * 동시 처리 상한에 걸려 거절된 요청은 처리되지 않았으므로 소비한 토큰을 되돌린다.
+ */
+class AdmissionLimiter {
+
+    enum Decision { ADMITTED, RATE_LIMITED, CONCURRENCY_LIMITED }
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxConcurrent;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    AdmissionLimiter(AdmissionProperties.Limit limit, Duration clientIdleTimeout, long maxClients,
+                     LongSupplier nanoClock) {
+        // 속도가 0 이하이면 빈도 제한 없이 동시 처리 상한만 적용
+        this.emissionIntervalNanos = limit.ratePerSecond() > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / limit.ratePerSecond())
+                : 0L;
+        this.burstToleranceNanos = emissionIntervalNanos * (Math.max(limit.burst(), 1) - 1);
+        this.maxConcurrent = limit.maxConcurrent();
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(clientIdleTimeout)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    /**
+     * 요청 허용 여부 판정 (ADMITTED이면 처리 후 반드시 {@link #release()} 호출)
+     */
+    Decision tryAcquire(String client) {
+        if (!tryConsumeToken(client)) {
+            return Decision.RATE_LIMITED;
+        }
+        if (!tryEnter()) {
+            refundToken(client);
+            return Decision.CONCURRENCY_LIMITED;
+        }
+        return Decision.ADMITTED;
+    }
+
+    void release() {
+        if (maxConcurrent > 0) {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 다음 토큰까지 남은 시간 (Retry-After 계산용)
+     */
+    Duration retryAfter(String client) {
+        AtomicLong bucket = buckets.getIfPresent(client);
+        if (bucket == null) {
+            return Duration.ZERO;
+        }
+        long wait = bucket.get() - burstToleranceNanos - nanoClock.getAsLong();
+        return Duration.ofNanos(Math.max(wait, 0L));
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private boolean tryConsumeToken(String client) {
+        if (emissionIntervalNanos == 0L) {
+            return true;
+        }
+        AtomicLong theoreticalArrival = buckets.get(client, key -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = theoreticalArrival.get();
+            long arrival = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            if (arrival - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryConsumeToken으로 앞당긴 다음 토큰 시각을 한 간격 되돌림
+     * - 그 사이 다른 요청이 시각을 더 앞당겼어도 간격만큼만 빼므로 그 요청의 소비분은 유지
+     */
+    private void refundToken(String client) {
+        if (emissionIntervalNanos == 0L) {
+            return;
+        }
+        AtomicLong theoreticalArrival = buckets.getIfPresent(client);
+        if (theoreticalArrival != null) {
+            theoreticalArrival.addAndGet(-emissionIntervalNanos);
+        }
+    }
+
+    private boolean tryEnter() {
+        if (maxConcurrent <= 0) {
+            return true;
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.controller;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import com.example.demo.dto.CalendarMonthDto;
+import com.example.demo.service.ScheduleMonthCache;
+import com.example.demo.service.ScheduleService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 달력 날짜 칸(HTML 조각) 렌더링
+ *
+ * 캐시를 켜면 (월, 오늘 날짜)별로 렌더링 결과를 보관하고,
+ * 해당 월의 일정이 등록/수정/삭제되어 월 캐시가 무효화될 때 함께 비운다 (반복 일정 변경 시에는 전체).
+ * 렌더링 중인 항목은 무효화 시점에 아직 캐시에 없으므로, 월 캐시와 같이 월별 스탬프를 렌더링 전후로 비교해
+ * 그 사이 무효화되었으면 결과를 보관하지 않는다. 놓친 무효화가 있어도 TTL이 지나면 다시 렌더링한다.
+ */
+@Component
+public class CalendarGridRenderer {
+
+    private static final String TEMPLATE = "schedules/calendar-grid";
+
+    private final ScheduleService scheduleService;
+    private final ITemplateEngine templateEngine;
+    private final Cache<GridKey, String> cache;
+    // 전체 무효화 횟수와 월별 무효화 횟수 (렌더링 전후 값이 다르면 결과를 보관하지 않음)
+    private final AtomicLong clearGeneration = new AtomicLong();
+    private final ConcurrentMap<YearMonth, Long> monthStamps = new ConcurrentHashMap<>();
+
+    public CalendarGridRenderer(
+            ScheduleService scheduleService,
+            ITemplateEngine templateEngine,
+            ScheduleMonthCache monthCache,
+            @Value("${schedule.calendar.fragment-cache.enabled:false}") boolean cacheEnabled,
+            @Value("${schedule.calendar.fragment-cache.maximum-size:60}") long maximumSize,
+            @Value("${schedule.calendar.fragment-cache.ttl:10m}") Duration ttl
+    ) {
+        this.scheduleService = scheduleService;
+        this.templateEngine = templateEngine;
+        if (cacheEnabled) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(ttl)
+                    .build();
+            monthCache.addEvictionListener(this::evict);
+            monthCache.addClearListener(this::evictAll);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    public String render(YearMonth month, HttpServletRequest request, HttpServletResponse response) {
+        LocalDate today = LocalDate.now();
+        if (cache == null) {
+            return renderGrid(month, today, request, response);
+        }
+        long renderedGeneration = clearGeneration.get();
+        long renderedStamp = stamp(month);
+        GridKey key = new GridKey(month, today);
+        String html = cache.get(key, k -> renderGrid(month, today, request, response));
+        if (renderedGeneration != clearGeneration.get() || renderedStamp != stamp(month)) {
+            cache.asMap().remove(key, html);
+        }
+        return html;
+    }
+
+    private String renderGrid(YearMonth month, LocalDate today, HttpServletRequest request,
+                              HttpServletResponse response) {
+        CalendarMonthDto calendar = scheduleService.getCalendarMonth(month.getYear(), month.getMonthValue(), today);
+        IWebExchange exchange = JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, response);
+        WebContext context = new WebContext(exchange, request.getLocale(), Map.of("calendar", calendar));
+        return templateEngine.process(TEMPLATE, context);
+    }
+
+    private void evict(YearMonth month) {
+        monthStamps.merge(month, 1L, Long::sum);
+        cache.asMap().keySet().removeIf(key -> key.month().equals(month));
+    }
+
+    private void evictAll() {
+        clearGeneration.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private long stamp(YearMonth month) {
+        return monthStamps.getOrDefault(month, 0L);
+    }
+
+    private record GridKey(YearMonth month, LocalDate today) {
+    }
+}
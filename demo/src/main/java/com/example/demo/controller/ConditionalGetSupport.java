@@ -0,0 +1,39 @@
+package com.example.demo.controller;
+
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.RequestContextUtils;
+
+import com.example.demo.service.ResourceVersionTracker;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건부 GET 처리
+ *
+ * 리소스 버전으로 ETag/Last-Modified를 설정하고, 클라이언트가 보낸 값과 같으면 304로 응답한다.
+ * 핸들러는 true가 반환되면 조회 없이 바로 null을 반환하면 된다.
+ * Cache-Control: no-cache로 브라우저가 매번 재검증하도록 하여 쓰기 직후 이전 내용을 보여주지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetSupport {
+
+    private final ResourceVersionTracker versions;
+
+    public boolean isNotModified(ServletWebRequest request, ResourceVersionTracker.Key key) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        // 리다이렉트로 전달된 알림 메시지가 있으면 304로 버려지지 않도록 항상 새로 렌더링
+        Map<String, ?> flashMap = RequestContextUtils.getInputFlashMap(request.getRequest());
+        if (flashMap != null && !flashMap.isEmpty()) {
+            return false;
+        }
+        return request.checkNotModified(versions.etag(key), versions.lastModified(key));
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.demo.controller;
 
-import java.util.List;
-
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -11,11 +11,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.example.demo.dto.PostCursor;
+import com.example.demo.dto.PostDetailDto;
 import com.example.demo.dto.PostDto;
+import com.example.demo.dto.PostListPage;
 import com.example.demo.entity.Post;
+import com.example.demo.exception.UpdateConflictException;
+import com.example.demo.service.PostSearchField;
 import com.example.demo.service.PostService;
+import com.example.demo.service.ResourceVersionTracker;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,43 +32,58 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PostController {
     
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final PostService postService;
+    private final ConditionalGetSupport conditionalGet;
     
-    // 게시글 목록
+    // 게시글 목록 (검색어가 있으면 검색 한도 적용)
     @GetMapping
+    @AdmissionControlled(value = "post-search", whenParam = "keyword")
     public String listPosts(@RequestParam(value = "searchType", required = false) String searchType,
                            @RequestParam(value = "keyword", required = false) String keyword,
-                           Model model) {
-        List<Post> posts;
+                           @RequestParam(value = "page", defaultValue = "0") int page,
+                           @RequestParam(value = "cursor", required = false) String cursor,
+                           @RequestParam(value = "size", defaultValue = "20") int size,
+                           Model model,
+                           ServletWebRequest webRequest) {
+        // 게시글이 작성/수정/삭제되지 않았으면 조회 없이 304 (조회수는 재검증 대상에서 제외)
+        if (conditionalGet.isNotModified(webRequest, ResourceVersionTracker.POST_LIST)) {
+            return null;
+        }
+        
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
         
-        if (keyword != null && !keyword.isEmpty()) {
-            if (null == searchType) {
-                posts = postService.getAllPosts();
-            } else switch (searchType) {
-                case "title":
-                    posts = postService.searchByTitle(keyword);
-                    break;
-                case "author":
-                    posts = postService.searchByAuthor(keyword);
-                    break;
-                default:
-                    posts = postService.getAllPosts();
-                    break;
-            }
+        if (keyword != null && !keyword.isBlank()) {
+            Page<Post> searchPage = postService.search(keyword, PostSearchField.parse(searchType),
+                    PageRequest.of(Math.max(page, 0), pageSize));
+            model.addAttribute("posts", searchPage.getContent());
+            model.addAttribute("searchPage", searchPage);
             model.addAttribute("searchType", searchType);
             model.addAttribute("keyword", keyword);
         } else {
-            posts = postService.getAllPosts();
+            PostListPage postPage = postService.getPostPage(PostCursor.parse(cursor), pageSize);
+            model.addAttribute("posts", postPage.getPosts());
+            model.addAttribute("postPage", postPage);
+            model.addAttribute("isFirstPage", cursor == null || cursor.isBlank());
         }
         
-        model.addAttribute("posts", posts);
+        model.addAttribute("size", pageSize);
         return "posts/list";
     }
     
     // 게시글 상세
     @GetMapping("/{id}")
-    public String viewPost(@PathVariable("id") Long id, Model model) {
-        Post post = postService.getPostByIdAndIncrementViews(id);
+    public String viewPost(@PathVariable("id") Long id, Model model, ServletWebRequest webRequest) {
+        // 없는 게시글이면 ETag를 설정하기 전에 404
+        postService.requireExists(id);
+        // 변경되지 않았으면 조회수만 누적하고 304
+        if (conditionalGet.isNotModified(webRequest, ResourceVersionTracker.post(id))) {
+            postService.countView(id);
+            return null;
+        }
+        
+        PostDetailDto post = postService.getPostByIdAndIncrementViews(id);
         model.addAttribute("post", post);
         return "posts/view";
     }
@@ -94,6 +116,7 @@ public class PostController {
         
         PostDto postDto = new PostDto();
         postDto.setId(post.getId());
+        postDto.setVersion(post.getVersion());
         postDto.setTitle(post.getTitle());
         postDto.setAuthor(post.getAuthor());
         postDto.setContent(post.getContent());
@@ -115,7 +138,13 @@ public class PostController {
             return "posts/form";
         }
         
-        postService.updatePost(id, postDto);
+        try {
+            postService.updatePost(id, postDto);
+        } catch (UpdateConflictException e) {
+            // 최신 내용으로 폼을 다시 열어 확인 후 저장하도록 안내
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+            return "redirect:/posts/" + id + "/edit";
+        }
         redirectAttributes.addFlashAttribute("message", "게시글이 수정되었습니다.");
         return "redirect:/posts/" + id;
     }
@@ -1,10 +1,25 @@
 package com.example.demo.controller;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.DateTimeException;
+import java.time.LocalTime;
+import java.time.Year;
 import java.time.YearMonth;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -12,15 +27,44 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import com.example.demo.dto.AvailableSlotDto;
+import com.example.demo.dto.MemberDto;
+import com.example.demo.dto.ScheduleImportResultDto;
 import com.example.demo.dto.ScheduleRequestDto;
 import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.dto.ScheduleSeriesDto;
+import com.example.demo.dto.ScheduleStatisticsDto;
+import com.example.demo.dto.TeamDto;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.exception.UpdateConflictException;
+import com.example.demo.service.ResourceVersionTracker;
+import com.example.demo.service.ScheduleAvailabilityService;
+import com.example.demo.service.ScheduleBulkService;
+import com.example.demo.service.ScheduleChangeFeed;
+import com.example.demo.service.ScheduleCsv;
+import com.example.demo.service.ScheduleMonthCache;
+import com.example.demo.service.ScheduleMonthPrefetcher;
+import com.example.demo.service.ScheduleSeriesService;
 import com.example.demo.service.ScheduleService;
+import com.example.demo.service.ScheduleStatistics;
+import com.example.demo.service.ScheduleTransferFormat;
+import com.example.demo.service.TeamService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +75,30 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ScheduleController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+    private static final int MAX_LOOKUP_SIZE = 50;
+    private static final int MAX_AGENDA_DAYS = 366;
+    private static final int MAX_RANGE_MONTHS = 12;
+    private static final int MIN_YEAR = 1;
+    private static final int MAX_YEAR = 9999;
+    private static final String FEED_RETRY_AFTER_SECONDS = "30";
+    // 요청 수락 제어 한도 이름 (app.admission.limits.*)
+    private static final String WRITE_LIMIT = "schedule-write";
+    private static final String IMPORT_LIMIT = "schedule-import";
+
     private final ScheduleService scheduleService;
+    private final ScheduleBulkService scheduleBulkService;
+    private final ScheduleAvailabilityService scheduleAvailabilityService;
+    private final ScheduleSeriesService scheduleSeriesService;
+    private final ScheduleMonthCache monthCache;
+    private final ScheduleMonthPrefetcher monthPrefetcher;
+    private final ScheduleStatistics scheduleStatistics;
+    private final TeamService teamService;
+    private final CalendarGridRenderer calendarGridRenderer;
+    private final ScheduleChangeFeed changeFeed;
+    private final ConditionalGetSupport conditionalGet;
+    private final ObjectMapper objectMapper;
 
     /**
      * 메인 달력 페이지
@@ -40,32 +107,60 @@ public class ScheduleController {
     public String showCalendar(
             @RequestParam(name = "year", required = false) Integer year,
             @RequestParam(name = "month", required = false) Integer month,
-            Model model
+            Model model,
+            HttpServletRequest request,
+            HttpServletResponse response
     ) {
         // 현재 연월 설정
         YearMonth currentYearMonth = (year != null && month != null)
                 ? YearMonth.of(year, month)
                 : YearMonth.now();
 
-        int currentYear = currentYearMonth.getYear();
-        int currentMonth = currentYearMonth.getMonthValue();
-
-        // 월별 일정 조회
-        List<ScheduleResponseDto> schedules = scheduleService.getSchedulesByMonth(currentYear, currentMonth);
+        model.addAttribute("year", currentYearMonth.getYear());
+        model.addAttribute("month", currentYearMonth.getMonthValue());
+        // 날짜별로 미리 묶은 월 데이터로 렌더링한 달력 칸 (설정 시 월 단위로 캐시)
+        model.addAttribute("calendarGrid", calendarGridRenderer.render(currentYearMonth, request, response));
+        monthPrefetcher.prefetchAround(currentYearMonth);
 
-        // 달력 데이터 계산
-        LocalDate firstDay = currentYearMonth.atDay(1);
-        int daysInMonth = currentYearMonth.lengthOfMonth();
-        int startDayOfWeek = firstDay.getDayOfWeek().getValue() % 7; // 일요일=0
+        return "schedules/calendar";
+    }
 
-        model.addAttribute("year", currentYear);
-        model.addAttribute("month", currentMonth);
-        model.addAttribute("schedules", schedules);
-        model.addAttribute("firstDay", firstDay);
-        model.addAttribute("daysInMonth", daysInMonth);
-        model.addAttribute("startDayOfWeek", startDayOfWeek);
+    /**
+     * 달력 날짜 칸(HTML 조각) - 변경 피드를 받은 달력이 다시 그릴 때 사용
+     */
+    @GetMapping(value = "/grid", produces = MediaType.TEXT_HTML_VALUE)
+    @ResponseBody
+    public ResponseEntity<String> getCalendarGrid(
+            @RequestParam("year") int year,
+            @RequestParam("month") int month,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        if (!isValidYearMonth(year, month)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(calendarGridRenderer.render(YearMonth.of(year, month), request, response));
+    }
 
-        return "schedules/calendar";
+    /**
+     * 월별 일정 변경 구독 (SSE)
+     * - 변경은 짧은 주기로 합쳐 월당 메시지 하나로 전송
+     * - 구독 수 상한에 도달하면 503 (EventSource가 잠시 후 다시 연결)
+     */
+    @GetMapping(value = "/api/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public ResponseEntity<SseEmitter> subscribeChanges(
+            @RequestParam("year") int year,
+            @RequestParam("month") int month
+    ) {
+        if (!isValidYearMonth(year, month)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return changeFeed.subscribe(YearMonth.of(year, month))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, FEED_RETRY_AFTER_SECONDS)
+                        .build());
     }
 
     /**
@@ -82,6 +177,7 @@ public class ScheduleController {
      * 일정 등록 처리
      */
     @PostMapping
+    @AdmissionControlled(WRITE_LIMIT)
     public String createSchedule(
             @Valid @ModelAttribute("schedule") ScheduleRequestDto requestDto,
             BindingResult result,
@@ -92,9 +188,14 @@ public class ScheduleController {
         }
 
         try {
-            scheduleService.createSchedule(requestDto);
-            redirectAttributes.addFlashAttribute("success", "일정이 성공적으로 등록되었습니다.");
-        } catch (IllegalArgumentException e) {
+            if (requestDto.isRecurring()) {
+                scheduleSeriesService.createSeries(requestDto);
+                redirectAttributes.addFlashAttribute("success", "반복 일정이 성공적으로 등록되었습니다.");
+            } else {
+                scheduleService.createSchedule(requestDto);
+                redirectAttributes.addFlashAttribute("success", "일정이 성공적으로 등록되었습니다.");
+            }
+        } catch (InvalidRequestException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
         }
 
@@ -109,7 +210,9 @@ public class ScheduleController {
         ScheduleResponseDto schedule = scheduleService.getScheduleById(id);
         
         ScheduleRequestDto requestDto = ScheduleRequestDto.builder()
+                .version(schedule.getVersion())
                 .teamName(schedule.getTeamName())
+                .teamMembers(schedule.getTeamMembers())
                 .scheduleDate(schedule.getScheduleDate())
                 .startTime(schedule.getStartTime())
                 .endTime(schedule.getEndTime())
@@ -125,6 +228,7 @@ public class ScheduleController {
      * 일정 수정 처리
      */
     @PostMapping("/{id}")
+    @AdmissionControlled(WRITE_LIMIT)
     public String updateSchedule(
             @PathVariable("id") Long id,
             @Valid @ModelAttribute("schedule") ScheduleRequestDto requestDto,
@@ -141,7 +245,11 @@ public class ScheduleController {
         try {
             scheduleService.updateSchedule(id, requestDto);
             redirectAttributes.addFlashAttribute("success", "일정이 성공적으로 수정되었습니다.");
-        } catch (IllegalArgumentException e) {
+        } catch (UpdateConflictException e) {
+            // 최신 내용으로 폼을 다시 열어 확인 후 저장하도록 안내
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
+            return "redirect:/schedules/" + id + "/edit";
+        } catch (InvalidRequestException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
         }
 
@@ -152,6 +260,7 @@ public class ScheduleController {
      * 일정 삭제
      */
     @PostMapping("/{id}/delete")
+    @AdmissionControlled(WRITE_LIMIT)
     public String deleteSchedule(
             @PathVariable("id") Long id,
             RedirectAttributes redirectAttributes
@@ -166,6 +275,44 @@ public class ScheduleController {
         return "redirect:/schedules";
     }
 
+    /**
+     * 반복 일정의 한 회차만 건너뛰기
+     */
+    @PostMapping("/series/{id}/skip")
+    @AdmissionControlled(WRITE_LIMIT)
+    public String skipOccurrence(
+            @PathVariable("id") Long id,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            RedirectAttributes redirectAttributes
+    ) {
+        scheduleSeriesService.skipOccurrence(id, date);
+        redirectAttributes.addFlashAttribute("success", "이번 회차를 건너뛰었습니다.");
+        return "redirect:/schedules";
+    }
+
+    /**
+     * 반복 일정 전체 삭제
+     */
+    @PostMapping("/series/{id}/delete")
+    @AdmissionControlled(WRITE_LIMIT)
+    public String deleteSeries(
+            @PathVariable("id") Long id,
+            RedirectAttributes redirectAttributes
+    ) {
+        scheduleSeriesService.deleteSeries(id);
+        redirectAttributes.addFlashAttribute("success", "반복 일정이 삭제되었습니다.");
+        return "redirect:/schedules";
+    }
+
+    /**
+     * REST API - 반복 일정 규칙 조회
+     */
+    @GetMapping("/api/series/{id}")
+    @ResponseBody
+    public ScheduleSeriesDto getSeries(@PathVariable("id") Long id) {
+        return scheduleSeriesService.getSeriesById(id);
+    }
+
     /**
      * 일별 상세 보기 페이지
      */
@@ -182,24 +329,340 @@ public class ScheduleController {
 
     /**
      * REST API - 월별 일정 조회 (AJAX)
+     * - 해당 월이 변경되지 않았으면 조회 없이 304
      */
     @GetMapping("/api/monthly")
     @ResponseBody
     public List<ScheduleResponseDto> getMonthlySchedules(
             @RequestParam("year") int year,
-            @RequestParam("month") int month
+            @RequestParam("month") int month,
+            ServletWebRequest webRequest
     ) {
-        return scheduleService.getSchedulesByMonth(year, month);
+        if (conditionalGet.isNotModified(webRequest, ResourceVersionTracker.month(YearMonth.of(year, month)))) {
+            return null;
+        }
+        List<ScheduleResponseDto> schedules = scheduleService.getSchedulesByMonth(year, month);
+        monthPrefetcher.prefetchAround(YearMonth.of(year, month));
+        return schedules;
+    }
+
+    /**
+     * REST API - 여러 월 일정 한 번에 조회 (year-month부터 count개월, 키는 "yyyy-MM")
+     * - 캐시에 없는 월은 기간 조회 한 번으로 로드
+     * - 일별 상세는 해당 월 목록을 날짜로 걸러 쓰면 되므로 월과 일을 따로 요청하지 않아도 됨
+     */
+    @GetMapping("/api/months")
+    @ResponseBody
+    public ResponseEntity<Map<YearMonth, List<ScheduleResponseDto>>> getSchedulesByMonths(
+            @RequestParam("year") int year,
+            @RequestParam("month") int month,
+            @RequestParam(name = "count", defaultValue = "3") int count
+    ) {
+        if (count < 1 || count > MAX_RANGE_MONTHS || !isValidYearMonth(year, month)) {
+            return ResponseEntity.badRequest().build();
+        }
+        YearMonth from = YearMonth.of(year, month);
+        return ResponseEntity.ok(scheduleService.getSchedulesByMonths(from, from.plusMonths(count - 1L)));
     }
 
     /**
      * REST API - 일별 상세 일정 조회 (AJAX)
+     * - 해당 날짜가 변경되지 않았으면 조회 없이 304
      */
     @GetMapping("/api/daily/{date}")
     @ResponseBody
     public List<ScheduleResponseDto> getDailySchedules(
-            @PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+            @PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            ServletWebRequest webRequest
     ) {
+        if (conditionalGet.isNotModified(webRequest, ResourceVersionTracker.day(date))) {
+            return null;
+        }
         return scheduleService.getDailyDetailSchedules(date);
     }
+
+    /**
+     * REST API - 빈 시간대 검색
+     * - 기간(최대 92일) 안에서 하루 중 dayStart~dayEnd 사이에 duration(분) 이상 비어 있는 구간
+     * - dayEnd를 생략하면 자정까지 (일정 등록은 팀과 관계없이 겹침을 막으므로 모든 팀의 일정을 바쁜 시간으로 계산)
+     */
+    @GetMapping("/api/availability")
+    @ResponseBody
+    public ResponseEntity<List<AvailableSlotDto>> getAvailableSlots(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam("duration") int durationMinutes,
+            @RequestParam(name = "dayStart", defaultValue = "00:00")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime dayStart,
+            @RequestParam(name = "dayEnd", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime dayEnd
+    ) {
+        try {
+            return ResponseEntity.ok(scheduleAvailabilityService.findAvailableSlots(
+                    from, to, durationMinutes, dayStart, dayEnd));
+        } catch (InvalidRequestException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * REST API - 일정 충돌 확인 (서버 메모리 구간 인덱스 사용)
+     * - 수정 화면에서는 excludeId로 수정 중인 일정 자신을 제외
+     */
+    @GetMapping("/api/overlap")
+    @ResponseBody
+    public Map<String, Boolean> checkOverlap(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam("startTime") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime startTime,
+            @RequestParam("endTime") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime endTime,
+            @RequestParam(name = "excludeId", required = false) Long excludeId
+    ) {
+        return Map.of("overlapping", scheduleService.hasOverlappingSchedule(date, startTime, endTime, excludeId));
+    }
+
+    /**
+     * REST API - 최근 팀 목록 (팀원 포함)
+     */
+    @GetMapping("/api/teams")
+    @ResponseBody
+    public List<TeamDto> getRecentTeams(@RequestParam(name = "size", defaultValue = "8") int size) {
+        return teamService.getRecentTeams(Math.min(Math.max(size, 1), MAX_LOOKUP_SIZE));
+    }
+
+    /**
+     * REST API - 팀원 이름 검색 (앞부분 일치)
+     */
+    @GetMapping("/api/members")
+    @ResponseBody
+    public List<MemberDto> searchMembers(
+            @RequestParam("q") String prefix,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        return teamService.searchMembers(prefix, Math.min(Math.max(size, 1), MAX_LOOKUP_SIZE));
+    }
+
+    /**
+     * REST API - 팀원별 일정 (기본: 오늘부터 30일)
+     */
+    @GetMapping("/api/members/{memberId}/agenda")
+    @ResponseBody
+    public ResponseEntity<List<ScheduleResponseDto>> getMemberAgenda(
+            @PathVariable("memberId") Long memberId,
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        LocalDate startDate = from != null ? from : LocalDate.now();
+        LocalDate endDate = to != null ? to : startDate.plusDays(30);
+        if (endDate.isBefore(startDate) || startDate.plusDays(MAX_AGENDA_DAYS).isBefore(endDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(scheduleService.getMemberAgenda(memberId, startDate, endDate));
+    }
+
+    /**
+     * REST API - 일정 통계 (month 지정 시 월, 생략 시 연간)
+     * - 일별 일정 수, 팀별 일정 수/예약 시간, 이용률
+     * - 메모리에 유지되는 집계를 사용하므로 일정 테이블을 다시 읽지 않음
+     */
+    @GetMapping("/api/statistics")
+    @ResponseBody
+    public ResponseEntity<ScheduleStatisticsDto> getStatistics(
+            @RequestParam("year") int year,
+            @RequestParam(name = "month", required = false) Integer month
+    ) {
+        try {
+            return ResponseEntity.ok(month == null
+                    ? scheduleStatistics.forYear(Year.of(year))
+                    : scheduleStatistics.forMonth(YearMonth.of(year, month)));
+        } catch (DateTimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * REST API - 월별 일정 캐시 통계 조회
+     */
+    @GetMapping("/api/cache/stats")
+    @ResponseBody
+    public Map<String, Object> getMonthCacheStats() {
+        CacheStats stats = monthCache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", monthCache.size());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    /**
+     * REST API - 기간별 일정 스트리밍 조회
+     * - format=ndjson 또는 Accept: application/x-ndjson 이면 NDJSON, 그 외에는 JSON 배열
+     */
+    @GetMapping("/api/range")
+    public ResponseEntity<StreamingResponseBody> streamRangeSchedules(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "teamName", required = false) String teamName,
+            @RequestParam(name = "format", required = false) String format,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return streamSchedules(from, to, teamName, isNdjson(format, accept));
+    }
+
+    /**
+     * REST API - 연간 일정 스트리밍 조회 (팀 이름 지정 시 해당 팀만)
+     * - LocalDate는 아주 큰 연도도 받으므로 연도 범위를 직접 확인
+     */
+    @GetMapping("/api/yearly")
+    public ResponseEntity<StreamingResponseBody> streamYearlySchedules(
+            @RequestParam("year") int year,
+            @RequestParam(name = "teamName", required = false) String teamName,
+            @RequestParam(name = "format", required = false) String format,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        if (!isValidYear(year)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return streamSchedules(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), teamName,
+                isNdjson(format, accept));
+    }
+
+    /**
+     * REST API - 일정 일괄 등록 (CSV 또는 NDJSON 본문)
+     */
+    @PostMapping(value = "/api/import", consumes = { "text/csv", NDJSON_VALUE })
+    @AdmissionControlled(IMPORT_LIMIT)
+    @ResponseBody
+    public ScheduleImportResultDto importSchedules(HttpServletRequest request) throws IOException {
+        ScheduleTransferFormat format = ScheduleTransferFormat.from(request.getContentType());
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return scheduleBulkService.importSchedules(reader, format);
+        }
+    }
+
+    /**
+     * REST API - 일정 내보내기 (format=csv 기본, ndjson)
+     * - 일괄 등록과 같은 형식으로 스트리밍
+     */
+    @GetMapping("/api/export")
+    public ResponseEntity<StreamingResponseBody> exportSchedules(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "teamName", required = false) String teamName,
+            @RequestParam(name = "format", required = false) String format
+    ) {
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        ScheduleTransferFormat transferFormat = ScheduleTransferFormat.from(format);
+        StreamingResponseBody body = transferFormat == ScheduleTransferFormat.NDJSON
+                ? out -> writeNdjson(from, to, teamName, out)
+                : out -> writeCsv(from, to, teamName, out);
+        String extension = transferFormat == ScheduleTransferFormat.NDJSON ? "ndjson" : "csv";
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(transferFormat.mediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"schedules-" + from + "-" + to + "." + extension + "\"")
+                .body(body);
+    }
+
+    private static boolean isNdjson(String format, String accept) {
+        return "ndjson".equalsIgnoreCase(format) || (accept != null && accept.contains(NDJSON_VALUE));
+    }
+
+    /**
+     * 일정을 DB 커서에서 읽는 즉시 응답으로 기록
+     * - 일정 건수와 무관하게 메모리 사용량이 일정하며, 첫 건부터 바로 전송
+     * - 소켓 쓰기가 블로킹되므로 클라이언트가 느리면 DB 커서 읽기도 그만큼 늦춰짐 (백프레셔)
+     */
+    private ResponseEntity<StreamingResponseBody> streamSchedules(LocalDate from, LocalDate to, String teamName,
+                                                                  boolean ndjson) {
+        StreamingResponseBody body = ndjson
+                ? out -> writeNdjson(from, to, teamName, out)
+                : out -> writeJsonArray(from, to, teamName, out);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.parseMediaType(NDJSON_VALUE) : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private void writeJsonArray(LocalDate from, LocalDate to, String teamName, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.writeStartArray();
+            int[] written = {0};
+            streamInto(from, to, teamName, schedule -> {
+                generator.writeObject(schedule);
+                if (shouldFlush(++written[0])) {
+                    generator.flush();
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    private void writeNdjson(LocalDate from, LocalDate to, String teamName, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ScheduleResponseDto.class);
+        int[] written = {0};
+        streamInto(from, to, teamName, schedule -> {
+            out.write(writer.writeValueAsBytes(schedule));
+            out.write('\n');
+            if (shouldFlush(++written[0])) {
+                out.flush();
+            }
+        });
+        out.flush();
+    }
+
+    private void writeCsv(LocalDate from, LocalDate to, String teamName, OutputStream out) throws IOException {
+        out.write((ScheduleCsv.HEADER + "\n").getBytes(StandardCharsets.UTF_8));
+        int[] written = {0};
+        streamInto(from, to, teamName, schedule -> {
+            out.write((ScheduleCsv.toLine(schedule) + "\n").getBytes(StandardCharsets.UTF_8));
+            if (shouldFlush(++written[0])) {
+                out.flush();
+            }
+        });
+        out.flush();
+    }
+
+    /**
+     * 스트리밍 형식(JSON 배열/NDJSON/CSV) 공통 flush 시점: 첫 건은 바로, 이후 STREAM_FLUSH_INTERVAL건마다
+     */
+    private static boolean shouldFlush(int written) {
+        return written % STREAM_FLUSH_INTERVAL == 1;
+    }
+
+    private void streamInto(LocalDate from, LocalDate to, String teamName, ScheduleWriter writer) throws IOException {
+        try {
+            scheduleService.streamSchedules(from, to, teamName, schedule -> {
+                try {
+                    writer.write(schedule);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ScheduleWriter {
+        void write(ScheduleResponseDto schedule) throws IOException;
+    }
+
+    private static boolean isValidYearMonth(int year, int month) {
+        return isValidYear(year) && month >= 1 && month <= 12;
+    }
+
+    private static boolean isValidYear(int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 비어 있는 시간대 (요청한 길이 이상인 최대 구간)
+ */
+@Getter
+@AllArgsConstructor
+public class AvailableSlotDto {
+
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+}
@@ -0,0 +1,64 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 달력 화면용 월 데이터
+ * - 일정 목록을 한 번만 순회하여 날짜별로 나누고, 칸마다 보여줄 일정과 넘친 개수를 미리 계산
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CalendarMonthDto {
+
+    public static final int MAX_VISIBLE_SCHEDULES = 3;
+
+    private final int year;
+    private final int month;
+    private final int leadingBlankDays;
+    private final List<Day> days;
+
+    /**
+     * @param schedules 해당 월의 일정 (날짜, 시작 시간 순)
+     */
+    public static CalendarMonthDto of(YearMonth yearMonth, List<ScheduleResponseDto> schedules, LocalDate today) {
+        int length = yearMonth.lengthOfMonth();
+        List<List<ScheduleResponseDto>> buckets = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (ScheduleResponseDto schedule : schedules) {
+            buckets.get(schedule.getScheduleDate().getDayOfMonth() - 1).add(schedule);
+        }
+
+        List<Day> days = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            LocalDate date = yearMonth.atDay(i + 1);
+            List<ScheduleResponseDto> bucket = buckets.get(i);
+            int visible = Math.min(bucket.size(), MAX_VISIBLE_SCHEDULES);
+            days.add(new Day(date, i + 1, date.equals(today), List.copyOf(bucket.subList(0, visible)),
+                    bucket.size(), bucket.size() - visible));
+        }
+
+        // 일요일 시작 달력의 첫 주 빈 칸 수 (일요일=0)
+        int leadingBlankDays = yearMonth.atDay(1).getDayOfWeek().getValue() % 7;
+        return new CalendarMonthDto(yearMonth.getYear(), yearMonth.getMonthValue(), leadingBlankDays, List.copyOf(days));
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Day {
+        private final LocalDate date;
+        private final int dayOfMonth;
+        private final boolean today;
+        private final List<ScheduleResponseDto> schedules;
+        private final int scheduleCount;
+        private final int overflowCount;
+    }
+}
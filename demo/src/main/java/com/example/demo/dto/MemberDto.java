@@ -0,0 +1,18 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Member;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MemberDto {
+
+    private final Long id;
+    private final String name;
+
+    public static MemberDto fromEntity(Member member) {
+        return new MemberDto(member.getId(), member.getName());
+    }
+}
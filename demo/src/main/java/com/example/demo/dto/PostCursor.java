@@ -0,0 +1,41 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 게시글 목록 커서 (마지막으로 본 게시글의 작성일시, ID)
+ * - 문자열 형식: {작성일시 ISO}_{ID}
+ */
+public record PostCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '_';
+
+    public static PostCursor of(PostSummaryDto post) {
+        return new PostCursor(post.getCreatedAt(), post.getId());
+    }
+
+    /**
+     * 커서 문자열 해석, 비어 있거나 형식이 맞지 않으면 null (첫 페이지)
+     */
+    public static PostCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int separator = value.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            return null;
+        }
+        try {
+            return new PostCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.valueOf(value.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String encode() {
+        return createdAt.toString() + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.demo.entity.Post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 상세 화면용 (조회수는 아직 DB에 반영되지 않은 누적분 포함)
+ */
+@Getter
+@AllArgsConstructor
+public class PostDetailDto {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final long views;
+
+    public static PostDetailDto of(Post post, long pendingViews) {
+        return new PostDetailDto(post.getId(), post.getTitle(), post.getAuthor(), post.getContent(),
+                post.getCreatedAt(), post.getUpdatedAt(), post.getViews() + pendingViews);
+    }
+}
@@ -13,6 +13,9 @@ public class PostDto {
     
     private Long id;
     
+    // 수정 폼을 연 시점의 버전 (작성 시 null)
+    private Long version;
+    
     @NotBlank(message = "제목을 입력해주세요.")
     @Size(max = 200, message = "제목은 200자 이내로 입력해주세요.")
     private String title;
@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 목록 한 페이지와 다음 페이지 커서
+ */
+@Getter
+@AllArgsConstructor
+public class PostListPage {
+
+    private final List<PostSummaryDto> posts;
+    private final String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 목록용 요약 (내용 제외)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryDto {
+
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final Integer views;
+}
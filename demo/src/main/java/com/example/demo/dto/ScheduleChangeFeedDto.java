@@ -0,0 +1,21 @@
+package com.example.demo.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 월별 일정 변경 피드 메시지 (전송 주기 안의 변경을 합친 결과)
+ * - reload가 true이면 개별 변경 없이 월 전체를 다시 조회해야 함 (일괄 등록 등)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleChangeFeedDto {
+
+    private final YearMonth month;
+    private final List<ScheduleResponseDto> upserted;
+    private final List<Long> deleted;
+    private final boolean reload;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일정 일괄 등록 결과
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleImportResultDto {
+
+    private final int totalRows;
+    private final int importedRows;
+    private final int rejectedRows;
+    private final List<RowError> errors;
+    private final boolean errorsTruncated;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private final int line;
+        private final String message;
+    }
+}
@@ -5,6 +5,8 @@ import java.time.LocalTime;
 
 import org.springframework.format.annotation.DateTimeFormat;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -17,8 +19,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@ValidScheduleTimes
 public class ScheduleRequestDto {
 
+    // 수정 폼을 연 시점의 버전 (등록 시 null)
+    private Long version;
+
     @NotBlank(message = "팀 이름은 필수입니다")
     @Size(max = 50, message = "팀 이름은 50자를 초과할 수 없습니다")
     private String teamName;
@@ -37,4 +43,22 @@ public class ScheduleRequestDto {
     @NotNull(message = "종료 시간은 필수입니다")
     @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
     private LocalTime endTime;
+
+    // 반복 간격 (주 단위, null이면 반복하지 않음)
+    @Min(value = 1, message = "반복 간격은 1주 이상이어야 합니다")
+    @Max(value = 4, message = "반복 간격은 4주를 초과할 수 없습니다")
+    private Integer repeatWeeks;
+
+    // 반복 종료일 (null이면 횟수 또는 무기한)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate repeatUntil;
+
+    // 반복 횟수 (null이면 종료일 또는 무기한)
+    @Min(value = 1, message = "반복 횟수는 1회 이상이어야 합니다")
+    @Max(value = 520, message = "반복 횟수는 520회를 초과할 수 없습니다")
+    private Integer repeatCount;
+
+    public boolean isRecurring() {
+        return repeatWeeks != null;
+    }
 }
@@ -5,19 +5,21 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 import com.example.demo.entity.Schedule;
+import com.example.demo.entity.ScheduleSeries;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+@Value
 @Builder
+@AllArgsConstructor
 public class ScheduleResponseDto {
 
     private Long id;
+    private Long version;
+    // 반복 일정의 회차이면 반복 일정 ID (이때 id, version은 null)
+    private Long seriesId;
     private String teamName;
     private String teamMembers;
     private LocalDate scheduleDate;
@@ -26,9 +28,19 @@ public class ScheduleResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /**
+     * 단건 일정 조회용 생성자 (JPQL 생성자 표현식에서 엔티티를 거치지 않고 바로 생성)
+     */
+    public ScheduleResponseDto(Long id, Long version, String teamName, String teamMembers, LocalDate scheduleDate,
+                               LocalTime startTime, LocalTime endTime, LocalDateTime createdAt,
+                               LocalDateTime updatedAt) {
+        this(id, version, null, teamName, teamMembers, scheduleDate, startTime, endTime, createdAt, updatedAt);
+    }
+
     public static ScheduleResponseDto fromEntity(Schedule schedule) {
         return ScheduleResponseDto.builder()
                 .id(schedule.getId())
+                .version(schedule.getVersion())
                 .teamName(schedule.getTeamName())
                 .teamMembers(schedule.getTeamMembers())
                 .scheduleDate(schedule.getScheduleDate())
@@ -38,4 +50,20 @@ public class ScheduleResponseDto {
                 .updatedAt(schedule.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 반복 일정의 한 회차
+     */
+    public static ScheduleResponseDto occurrenceOf(ScheduleSeries series, LocalDate date) {
+        return ScheduleResponseDto.builder()
+                .seriesId(series.getId())
+                .teamName(series.getTeamName())
+                .teamMembers(series.getTeamMembers())
+                .scheduleDate(date)
+                .startTime(series.getStartTime())
+                .endTime(series.getEndTime())
+                .createdAt(series.getCreatedAt())
+                .updatedAt(series.getUpdatedAt())
+                .build();
+    }
 }
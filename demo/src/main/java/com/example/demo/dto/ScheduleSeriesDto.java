@@ -0,0 +1,44 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.example.demo.entity.ScheduleSeries;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 반복 일정 (규칙)
+ */
+@Value
+@Builder
+public class ScheduleSeriesDto {
+
+    private Long id;
+    private String teamName;
+    private String teamMembers;
+    private LocalDate startDate;
+    private LocalDate untilDate;
+    private Integer occurrenceCount;
+    private int intervalWeeks;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private List<LocalDate> exceptions;
+
+    public static ScheduleSeriesDto fromEntity(ScheduleSeries series) {
+        return ScheduleSeriesDto.builder()
+                .id(series.getId())
+                .teamName(series.getTeamName())
+                .teamMembers(series.getTeamMembers())
+                .startDate(series.getStartDate())
+                .untilDate(series.getUntilDate())
+                .occurrenceCount(series.getOccurrenceCount())
+                .intervalWeeks(series.getIntervalWeeks())
+                .startTime(series.getStartTime())
+                .endTime(series.getEndTime())
+                .exceptions(series.getExceptions().stream().sorted().toList())
+                .build();
+    }
+}
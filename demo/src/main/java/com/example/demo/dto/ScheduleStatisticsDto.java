@@ -0,0 +1,35 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 기간별 일정 통계
+ * - utilization: 기간 전체 시간(일수 x 24시간) 대비 예약된 시간 비율
+ */
+@Value
+@Builder
+public class ScheduleStatisticsDto {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long totalSchedules;
+    private long bookedMinutes;
+    private double utilization;
+    private Map<LocalDate, Integer> dailyCounts;
+    private List<TeamStatistics> teams;
+
+    @Value
+    public static class TeamStatistics {
+
+        private String teamName;
+        private long scheduleCount;
+        private long bookedMinutes;
+        private double bookedHours;
+        private double utilization;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.dto;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * {@link ValidScheduleTimes} 검증기
+ * - 위반 내용은 해당 필드(endTime, repeatUntil) 오류로 보고 (폼에서 필드 옆에 표시)
+ * - null 필드는 @NotNull 검증에 맡기고 여기서는 통과
+ */
+public class ScheduleTimesValidator implements ConstraintValidator<ValidScheduleTimes, ScheduleRequestDto> {
+
+    @Override
+    public boolean isValid(ScheduleRequestDto dto, ConstraintValidatorContext context) {
+        if (dto == null) {
+            return true;
+        }
+        boolean valid = true;
+        context.disableDefaultConstraintViolation();
+
+        if (dto.getStartTime() != null && dto.getEndTime() != null
+                && !dto.getEndTime().isAfter(dto.getStartTime())) {
+            context.buildConstraintViolationWithTemplate("종료 시간은 시작 시간보다 늦어야 합니다.")
+                    .addPropertyNode("endTime")
+                    .addConstraintViolation();
+            valid = false;
+        }
+        if (dto.getScheduleDate() != null && dto.getRepeatUntil() != null
+                && dto.getRepeatUntil().isBefore(dto.getScheduleDate())) {
+            context.buildConstraintViolationWithTemplate("반복 종료일은 시작일보다 빠를 수 없습니다.")
+                    .addPropertyNode("repeatUntil")
+                    .addConstraintViolation();
+            valid = false;
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.dto;
+
+import java.util.Comparator;
+import java.util.List;
+
+import com.example.demo.entity.Member;
+import com.example.demo.entity.Team;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TeamDto {
+
+    private final Long id;
+    private final String name;
+    private final List<String> members;
+
+    public static TeamDto fromEntity(Team team) {
+        return new TeamDto(team.getId(), team.getName(), team.getMembers().stream()
+                .map(Member::getName)
+                .sorted(Comparator.naturalOrder())
+                .toList());
+    }
+}
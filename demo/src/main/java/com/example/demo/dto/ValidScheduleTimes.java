@@ -0,0 +1,27 @@
+package com.example.demo.dto;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+/**
+ * 일정 요청의 시간 관계 검증 (종료 시간 > 시작 시간, 반복 종료일 >= 시작일)
+ * - 서비스/엔티티에서 반복하던 검사를 요청 바인딩 시점 한 곳으로 모음
+ */
+@Documented
+@Constraint(validatedBy = ScheduleTimesValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidScheduleTimes {
+
+    String message() default "일정 시간이 올바르지 않습니다";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,35 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "members", indexes = {
+        @Index(name = "uk_members_name", columnList = "name", unique = true)
+})
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class Member {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 이름이 고유하므로 저장 전후 모두 이름으로 동일성 판단
+    @EqualsAndHashCode.Include
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    public Member(String name) {
+        this.name = name;
+    }
+}
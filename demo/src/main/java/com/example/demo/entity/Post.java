@@ -2,21 +2,31 @@ package com.example.demo.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at, id")
+})
+// 2차 캐시는 l2cache 프로필에서만 사용 (조회수는 JDBC로 반영하므로 반영 후 캐시에서 제거)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -26,6 +36,11 @@ public class Post {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    // 낙관적 잠금 (조회수는 별도 UPDATE로 반영하므로 버전과 무관)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(nullable = false, length = 200)
     private String title;
     
@@ -43,7 +58,9 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
-    @Column(nullable = false)
+    // 조회수는 PostViewCounter가 UPDATE views = views + ?로만 반영
+    // (엔티티 수정이 읽은 시점의 값으로 덮어써 누적분을 잃지 않도록 UPDATE에서 제외)
+    @Column(nullable = false, updatable = false)
     private Integer views = 0;
     
     public Post(String title, String author, String content) {
@@ -51,8 +68,4 @@ public class Post {
         this.author = author;
         this.content = content;
     }
-    
-    public void incrementViews() {
-        this.views++;
-    }
 }
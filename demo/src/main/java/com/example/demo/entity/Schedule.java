@@ -3,45 +3,81 @@ package com.example.demo.entity;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
-import jakarta.persistence.PrePersist;
-import jakarta.persistence.PreUpdate;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Entity
 @Table(name = "schedule", indexes = {
-        @Index(name = "idx_schedule_date", columnList = "schedule_date"),
-        @Index(name = "idx_team_name", columnList = "team_name")
+        @Index(name = "idx_schedule_date_start_time", columnList = "schedule_date, start_time"),
+        @Index(name = "idx_schedule_team_id_date_start_time", columnList = "team_id, schedule_date, start_time")
 })
-@Data
+// 2차 캐시는 l2cache 프로필에서만 사용 (영역 설정은 application.conf)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "schedule")
+// @Data의 equals/hashCode/toString은 지연 로딩 연관을 건드리고 영속 상태에서 값이 바뀌므로 쓰지 않음
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Schedule {
 
+    // IDENTITY는 INSERT마다 키를 받아야 해 JDBC 배치가 불가능하므로 pooled 시퀀스 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
     private Long id;
 
+    // 낙관적 잠금 (동시 수정 시 나중 커밋이 덮어쓰지 않도록)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false, length = 50, name = "team_name")
     private String teamName;
 
     @Column(length = 500, name = "team_members")
     private String teamMembers;
 
+    // 정규화된 팀/팀원 (teamName, teamMembers 문자열은 입력 그대로 표시용으로 유지)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id")
+    private Team team;
+
+    @ManyToMany
+    @JoinTable(name = "schedule_member",
+            joinColumns = @JoinColumn(name = "schedule_id"),
+            inverseJoinColumns = @JoinColumn(name = "member_id"),
+            indexes = @Index(name = "idx_schedule_member_member", columnList = "member_id, schedule_id"))
+    @Builder.Default
+    private Set<Member> members = new HashSet<>();
+
     @Column(nullable = false, name = "schedule_date")
     private LocalDate scheduleDate;
 
@@ -58,12 +94,4 @@ public class Schedule {
     @UpdateTimestamp
     @Column(nullable = false, name = "updated_at")
     private LocalDateTime updatedAt;
-
-    @PrePersist
-    @PreUpdate
-    private void validateTimeRange() {
-        if (endTime != null && startTime != null && !endTime.isAfter(startTime)) {
-            throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다.");
-        }
-    }
 }
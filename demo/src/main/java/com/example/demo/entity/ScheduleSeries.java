@@ -0,0 +1,94 @@
+package com.example.demo.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 반복 일정 (매주/격주 등 N주 간격)
+ *
+ * 규칙만 한 행으로 저장하고 각 회차는 조회 범위 안에서만 펼친다.
+ * 반복 요일은 시작일의 요일이며, 종료일(untilDate)은 횟수 제한이 있으면 마지막 회차 날짜로 저장한다.
+ */
+@Entity
+@Table(name = "schedule_series", indexes = {
+        @Index(name = "idx_schedule_series_start_until", columnList = "start_date, until_date")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false, length = 50, name = "team_name")
+    private String teamName;
+
+    @Column(length = 500, name = "team_members")
+    private String teamMembers;
+
+    @Column(nullable = false, name = "start_date")
+    private LocalDate startDate;
+
+    // 마지막 회차가 있을 수 있는 날짜 (null이면 끝없이 반복)
+    @Column(name = "until_date")
+    private LocalDate untilDate;
+
+    // 등록 시 지정한 반복 횟수 (표시용, 실제 범위는 untilDate로 판단)
+    @Column(name = "occurrence_count")
+    private Integer occurrenceCount;
+
+    @Column(nullable = false, name = "interval_weeks")
+    private int intervalWeeks;
+
+    @Column(nullable = false, name = "start_time")
+    private LocalTime startTime;
+
+    @Column(nullable = false, name = "end_time")
+    private LocalTime endTime;
+
+    // 건너뛰는 회차 날짜
+    @ElementCollection
+    @CollectionTable(name = "schedule_series_exception", joinColumns = @JoinColumn(name = "series_id"))
+    @Column(name = "exception_date", nullable = false)
+    @Builder.Default
+    private Set<LocalDate> exceptions = new HashSet<>();
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,63 @@
+package com.example.demo.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.BatchSize;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "teams", indexes = {
+        @Index(name = "uk_teams_name", columnList = "name", unique = true),
+        @Index(name = "idx_teams_last_used_at", columnList = "last_used_at")
+})
+@Getter
+@NoArgsConstructor
+public class Team {
+
+    // 일정이 연결될 때마다 행을 갱신하지 않도록 최근 사용 시각은 이 간격 단위로만 기록
+    private static final Duration USAGE_RESOLUTION = Duration.ofMinutes(1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String name;
+
+    // 마지막으로 일정에 연결된 시각 (최근 사용 팀 목록 정렬)
+    @Column(name = "last_used_at")
+    private LocalDateTime lastUsedAt;
+
+    // 팀에 속한 적이 있는 팀원 (일정 등록 시 TeamMembershipRepository로 누적, 엔티티에서는 읽기만)
+    @ManyToMany
+    @JoinTable(name = "team_member",
+            joinColumns = @JoinColumn(name = "team_id"),
+            inverseJoinColumns = @JoinColumn(name = "member_id"))
+    @BatchSize(size = 50)
+    private Set<Member> members = new HashSet<>();
+
+    public Team(String name) {
+        this.name = name;
+    }
+
+    public void markUsed(LocalDateTime now) {
+        if (lastUsedAt == null || lastUsedAt.isBefore(now.minus(USAGE_RESOLUTION))) {
+            lastUsedAt = now;
+        }
+    }
+}
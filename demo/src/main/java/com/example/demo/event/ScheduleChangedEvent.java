@@ -0,0 +1,80 @@
+package com.example.demo.event;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.example.demo.dto.ScheduleResponseDto;
+
+/**
+ * 일정 변경 이벤트
+ * - 쓰기 트랜잭션 안에서 발행되며, 리스너는 커밋 전후(@TransactionalEventListener)에 처리
+ * - 단건 변경은 변경 전/후 값을 함께 전달해 리스너가 증분으로 반영할 수 있도록 함
+ * - 반복 일정 변경은 영향 범위가 끝이 없을 수 있으므로 날짜 없이 전체 무효화로 처리 (affectsAllDates)
+ *
+ * @param scheduleId 변경된 일정 ID (일괄 등록은 null, 반복 일정은 반복 일정 ID)
+ * @param dates      영향을 받은 날짜 (수정으로 날짜가 바뀌면 이전/이후 날짜 모두)
+ * @param previous   변경 전 값 (등록, 일괄 등록은 null)
+ * @param current    변경 후 값 (삭제, 일괄 등록은 null)
+ */
+public record ScheduleChangedEvent(ChangeType type, Long scheduleId, Set<LocalDate> dates,
+                                   ScheduleResponseDto previous, ScheduleResponseDto current) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, IMPORTED, SERIES
+    }
+
+    public static ScheduleChangedEvent created(ScheduleResponseDto current) {
+        return new ScheduleChangedEvent(ChangeType.CREATED, current.getId(),
+                datesOf(current.getScheduleDate()), null, current);
+    }
+
+    public static ScheduleChangedEvent updated(ScheduleResponseDto previous, ScheduleResponseDto current) {
+        return new ScheduleChangedEvent(ChangeType.UPDATED, current.getId(),
+                datesOf(previous.getScheduleDate(), current.getScheduleDate()), previous, current);
+    }
+
+    public static ScheduleChangedEvent deleted(ScheduleResponseDto previous) {
+        return new ScheduleChangedEvent(ChangeType.DELETED, previous.getId(),
+                datesOf(previous.getScheduleDate()), previous, null);
+    }
+
+    /**
+     * 일괄 등록 (행 단위 값 없이 영향받은 날짜만 전달)
+     */
+    public static ScheduleChangedEvent imported(Collection<LocalDate> dates) {
+        return new ScheduleChangedEvent(ChangeType.IMPORTED, null, datesOf(dates.stream()), null, null);
+    }
+
+    /**
+     * 반복 일정 등록/삭제/회차 건너뛰기
+     */
+    public static ScheduleChangedEvent seriesChanged(Long seriesId) {
+        return new ScheduleChangedEvent(ChangeType.SERIES, seriesId, Set.of(), null, null);
+    }
+
+    /**
+     * 날짜를 특정할 수 없어 모든 날짜의 파생 데이터를 무효화해야 하는지
+     */
+    public boolean affectsAllDates() {
+        return type == ChangeType.SERIES;
+    }
+
+    public Set<YearMonth> months() {
+        return dates.stream().map(YearMonth::from).collect(Collectors.toSet());
+    }
+
+    private static Set<LocalDate> datesOf(LocalDate... dates) {
+        return datesOf(Arrays.stream(dates));
+    }
+
+    private static Set<LocalDate> datesOf(Stream<LocalDate> dates) {
+        return Set.copyOf(dates.filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+}
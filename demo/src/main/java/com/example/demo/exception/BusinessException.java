@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+/**
+ * 요청 내용 때문에 생기는 예상된 업무 오류 (없는 ID, 충돌, 규칙 위반)
+ * - 원인 추적이 필요 없고 잘못된 요청이 몰리면 자주 발생하므로 스택 트레이스를 만들지 않음
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+
+    protected BusinessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.exception;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예상된 오류(없는 리소스, 충돌, 잘못된 요청) 로그 기록
+ *
+ * 잘못된 요청이 몰릴 때 건마다 ERROR/WARN 로그를 쓰면 로그 I/O가 요청 처리보다 비싸진다.
+ * 건별 내용은 DEBUG로만 남기고, 종류별로 summary-interval 마다 한 번 WARN 요약
+ * (그 사이 생략된 건수 포함)을 남긴다. 건수는 app.errors.expected{kind} 카운터로 집계한다.
+ */
+@Component
+@Slf4j
+public class ExpectedErrorLog {
+
+    private final MeterRegistry meterRegistry;
+    private final long intervalNanos;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ExpectedErrorLog(
+            MeterRegistry meterRegistry,
+            @Value("${app.error-log.summary-interval:10s}") Duration summaryInterval
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.intervalNanos = summaryInterval.toNanos();
+    }
+
+    /**
+     * 예상된 오류 한 건 기록
+     */
+    public void record(String kind, String message) {
+        Window window = windows.computeIfAbsent(kind, this::newWindow);
+        window.counter.increment();
+        if (log.isDebugEnabled()) {
+            log.debug("{}: {}", kind, message);
+        }
+
+        window.sinceSummary.incrementAndGet();
+        long now = System.nanoTime();
+        long last = window.lastSummaryAt.get();
+        if (now - last >= intervalNanos && window.lastSummaryAt.compareAndSet(last, now)) {
+            // 요약 주기를 차지한 스레드만 그동안 모인 건수를 가져가 한 줄로 기록
+            long count = window.sinceSummary.getAndSet(0);
+            log.warn("{} x{} since last summary (latest: {})", kind, count, message);
+        }
+    }
+
+    private Window newWindow(String kind) {
+        Counter counter = Counter.builder("app.errors.expected")
+                .description("Expected request errors handled without a stack trace")
+                .tag("kind", kind)
+                .register(meterRegistry);
+        // 처음 발생한 오류는 바로 요약 로그를 남기도록 한 주기 이전 시각으로 시작
+        return new Window(counter, new AtomicLong(System.nanoTime() - intervalNanos), new AtomicLong());
+    }
+
+    private record Window(Counter counter, AtomicLong lastSummaryAt, AtomicLong sinceSummary) {
+    }
+}
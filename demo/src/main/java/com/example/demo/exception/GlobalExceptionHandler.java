@@ -1,37 +1,90 @@
 package com.example.demo.exception;
 
+import java.time.DateTimeException;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 예상된 오류(404, 409, 잘못된 요청)는 ExpectedErrorLog로 요약 기록하고,
+ * 예상하지 못한 오류만 스택 트레이스와 함께 ERROR로 기록
+ */
 @ControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final ExpectedErrorLog expectedErrorLog;
+
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public String handleResourceNotFoundException(ResourceNotFoundException ex, Model model) {
-        log.error("Resource not found: {}", ex.getMessage());
+        expectedErrorLog.record("not-found", ex.getMessage());
         model.addAttribute("error", ex.getMessage());
         return "error/404";
     }
 
+    @ExceptionHandler(NoResourceFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public String handleNoResourceFoundException(NoResourceFoundException ex, Model model) {
+        expectedErrorLog.record("no-resource", ex.getResourcePath());
+        model.addAttribute("error", "요청한 페이지를 찾을 수 없습니다.");
+        return "error/404";
+    }
+
+    @ExceptionHandler(UpdateConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleUpdateConflictException(UpdateConflictException ex, Model model) {
+        expectedErrorLog.record("conflict", ex.getMessage());
+        model.addAttribute("error", ex.getMessage());
+        return "error/409";
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public String handleInvalidRequestException(InvalidRequestException ex, RedirectAttributes redirectAttributes) {
+        expectedErrorLog.record("invalid-request", ex.getMessage());
+        redirectAttributes.addFlashAttribute("error", ex.getMessage());
+        return "redirect:/schedules";
+    }
+
+    // 서비스의 입력 검증(IllegalArgumentException)도 잘못된 요청이므로 스택 트레이스 없이 요약 기록
     @ExceptionHandler(IllegalArgumentException.class)
     public String handleIllegalArgumentException(IllegalArgumentException ex, RedirectAttributes redirectAttributes) {
-        log.error("Illegal argument: {}", ex.getMessage());
+        expectedErrorLog.record("illegal-argument", ex.getMessage());
         redirectAttributes.addFlashAttribute("error", ex.getMessage());
         return "redirect:/schedules";
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleTypeMismatchException(MethodArgumentTypeMismatchException ex, Model model) {
+        expectedErrorLog.record("type-mismatch", ex.getName() + "=" + ex.getValue());
+        model.addAttribute("error", "요청 값 '" + ex.getName() + "'의 형식이 올바르지 않습니다.");
+        return "error/400";
+    }
+
+    // 범위를 벗어난 연/월/일 (예: month=13) - YearMonth.of, LocalDate.of 등에서 발생
+    @ExceptionHandler(DateTimeException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleDateTimeException(DateTimeException ex, Model model) {
+        expectedErrorLog.record("invalid-date", ex.getMessage());
+        model.addAttribute("error", "날짜 값이 올바르지 않습니다.");
+        return "error/400";
+    }
+
     @ExceptionHandler(BindException.class)
     public String handleBindException(BindException ex, Model model) {
-        log.error("Validation error: {}", ex.getMessage());
+        expectedErrorLog.record("validation", ex.getMessage());
         model.addAttribute("errors", ex.getBindingResult().getAllErrors());
         return "schedules/form";
     }
@@ -0,0 +1,15 @@
+package com.example.demo.exception;
+
+/**
+ * 요청 값은 형식상 올바르지만 업무 규칙에 맞지 않는 경우 (시간대 충돌, 조회 범위 초과 등)
+ */
+public class InvalidRequestException extends BusinessException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.demo.exception;
 
-public class ResourceNotFoundException extends RuntimeException {
+public class ResourceNotFoundException extends BusinessException {
     
     public ResourceNotFoundException(String message) {
         super(message);
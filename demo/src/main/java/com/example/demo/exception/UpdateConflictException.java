@@ -0,0 +1,15 @@
+package com.example.demo.exception;
+
+/**
+ * 다른 사용자가 먼저 수정해 변경을 적용할 수 없는 경우 (낙관적 잠금 충돌)
+ */
+public class UpdateConflictException extends BusinessException {
+
+    public UpdateConflictException(String message) {
+        super(message);
+    }
+
+    public UpdateConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.entity.Member;
+
+@Repository
+public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    List<Member> findByNameIn(Collection<String> names);
+
+    /**
+     * 이름 앞부분으로 팀원 검색 (이름 인덱스 범위 조회)
+     */
+    List<Member> findByNameStartingWithOrderByNameAsc(String prefix, Limit limit);
+}
@@ -1,10 +1,15 @@
 package com.example.demo.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.demo.dto.PostSummaryDto;
 import com.example.demo.entity.Post;
 
 @Repository
@@ -16,6 +21,17 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 작성자로 검색
     List<Post> findByAuthorContaining(String keyword);
     
-    // 최신순 정렬
-    List<Post> findAllByOrderByCreatedAtDesc();
+    // 목록 첫 페이지 (내용 제외, 최신순)
+    @Query("SELECT new com.example.demo.dto.PostSummaryDto(p.id, p.title, p.author, p.createdAt, p.views) " +
+           "FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findLatestSummaries(Limit limit);
+    
+    // 목록 다음 페이지 (커서보다 오래된 게시글, idx_posts_created_at_id 범위 조회)
+    @Query("SELECT new com.example.demo.dto.PostSummaryDto(p.id, p.title, p.author, p.createdAt, p.views) " +
+           "FROM Post p WHERE p.createdAt <= :createdAt " +
+           "AND (p.createdAt < :createdAt OR p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Limit limit);
 }
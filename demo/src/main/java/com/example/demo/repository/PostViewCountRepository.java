@@ -0,0 +1,34 @@
+package com.example.demo.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.entity.Post;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountRepository {
+
+    private static final String INCREMENT_VIEWS_SQL = "UPDATE posts SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 게시글별 누적 조회수를 JDBC 배치 한 번으로 반영
+     * - Hibernate를 거치지 않으므로 2차 캐시(사용 시)에 남은 게시글은 직접 제거
+     */
+    public void incrementViews(Map<Long, Long> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[] { delta, postId }));
+        jdbcTemplate.batchUpdate(INCREMENT_VIEWS_SQL, batchArgs);
+        deltas.keySet().forEach(postId -> entityManagerFactory.getCache().evict(Post.class, postId));
+    }
+}
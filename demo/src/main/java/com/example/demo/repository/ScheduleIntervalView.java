@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+/**
+ * 구간 인덱스 적재용 조회 전용 프로젝션 (일정 ID + 시간 구간)
+ */
+public interface ScheduleIntervalView extends ScheduleSlotView {
+
+    Long getId();
+}
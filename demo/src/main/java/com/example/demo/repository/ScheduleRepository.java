@@ -2,36 +2,117 @@ package com.example.demo.repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.demo.dto.ScheduleResponseDto;
 import com.example.demo.entity.Schedule;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     /**
-     * 특정 날짜의 모든 일정 조회
+     * 조회 화면용 선택 목록: 엔티티 대신 ScheduleResponseDto를 바로 생성 (영속성 컨텍스트에 남지 않음)
+     */
+    String SELECT_RESPONSE = "SELECT new com.example.demo.dto.ScheduleResponseDto(s.id, s.version, s.teamName, " +
+            "s.teamMembers, s.scheduleDate, s.startTime, s.endTime, s.createdAt, s.updatedAt) FROM Schedule s ";
+
+    /**
+     * 날짜/기간 조회 결과의 쿼리 캐시 영역 (schedule 테이블이 바뀌면 Hibernate가 무효화)
      */
+    String SCHEDULE_RANGE_QUERY_REGION = "schedule-range-query";
+
+    /**
+     * 특정 날짜의 모든 일정 조회 (구간 인덱스 적재용, 수정하지 않으므로 스냅샷을 두지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Schedule> findByScheduleDateOrderByStartTimeAsc(LocalDate date);
 
     /**
-     * 특정 기간의 일정 조회
+     * 전체 일정 조회 (조회 전용)
+     */
+    @Query(SELECT_RESPONSE + "ORDER BY s.scheduleDate ASC, s.startTime ASC")
+    List<ScheduleResponseDto> findAllResponses();
+
+    /**
+     * 특정 날짜의 일정 조회 (조회 전용, l2cache 프로필에서는 쿼리 캐시 사용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SCHEDULE_RANGE_QUERY_REGION)
+    })
+    @Query(SELECT_RESPONSE + "WHERE s.scheduleDate = :date ORDER BY s.startTime ASC")
+    List<ScheduleResponseDto> findResponsesByDate(@Param("date") LocalDate date);
+
+    /**
+     * 특정 기간의 일정 조회 (조회 전용, l2cache 프로필에서는 쿼리 캐시 사용)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SCHEDULE_RANGE_QUERY_REGION)
+    })
+    @Query(SELECT_RESPONSE + "WHERE s.scheduleDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.scheduleDate ASC, s.startTime ASC")
+    List<ScheduleResponseDto> findResponsesBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 특정 기간의 일정 스트리밍 조회 (조회 전용, 트랜잭션 안에서 소비해야 함)
      */
-    List<Schedule> findByScheduleDateBetweenOrderByScheduleDateAscStartTimeAsc(LocalDate startDate, LocalDate endDate);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "WHERE s.scheduleDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.scheduleDate ASC, s.startTime ASC")
+    Stream<ScheduleResponseDto> streamResponsesBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 특정 팀의 기간별 일정 스트리밍 조회 (조회 전용, 트랜잭션 안에서 소비해야 함)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE + "WHERE s.team.id = :teamId AND s.scheduleDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.scheduleDate ASC, s.startTime ASC")
+    Stream<ScheduleResponseDto> streamResponsesForTeamBetween(
+            @Param("teamId") Long teamId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 
     /**
-     * 특정 팀의 일정 조회
+     * 특정 팀의 일정 조회 (team_id 인덱스 사용)
      */
-    List<Schedule> findByTeamNameOrderByScheduleDateAscStartTimeAsc(String teamName);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Schedule> findByTeamIdOrderByScheduleDateAscStartTimeAsc(Long teamId);
+
+    /**
+     * 특정 팀원의 기간별 일정 조회 (schedule_member의 member_id 인덱스 사용)
+     */
+    @Query(SELECT_RESPONSE + "JOIN s.members m WHERE m.id = :memberId " +
+           "AND s.scheduleDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY s.scheduleDate ASC, s.startTime ASC")
+    List<ScheduleResponseDto> findAgendaForMember(
+            @Param("memberId") Long memberId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 
     /**
      * 특정 날짜와 시간대에 겹치는 일정 조회
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT s FROM Schedule s WHERE s.scheduleDate = :date " +
            "AND ((s.startTime < :endTime AND s.endTime > :startTime))")
     List<Schedule> findOverlappingSchedules(
@@ -41,8 +122,47 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     );
 
     /**
-     * 월별 일정 개수 조회
+     * 특정 기간의 일정 시간 구간만 조회 (엔티티 대신 날짜/시작/종료 3개 컬럼)
+     */
+    @Query("SELECT s.scheduleDate AS scheduleDate, s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM Schedule s WHERE s.scheduleDate BETWEEN :startDate AND :endDate")
+    List<ScheduleSlotView> findSlotsBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 여러 날짜의 일정 ID와 시간 구간 조회 (일괄 등록 전 구간 인덱스에 날짜를 한 번에 올릴 때)
+     */
+    @Query("SELECT s.id AS id, s.scheduleDate AS scheduleDate, s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM Schedule s WHERE s.scheduleDate IN :dates")
+    List<ScheduleIntervalView> findIntervalsByScheduleDateIn(@Param("dates") Collection<LocalDate> dates);
+
+    /**
+     * from 이후 일정 중 [startTime, endTime)과 시간대가 겹치는 구간만 조회 (반복 일정 등록 시 충돌 검사용)
      */
-    @Query("SELECT COUNT(s) FROM Schedule s WHERE YEAR(s.scheduleDate) = :year AND MONTH(s.scheduleDate) = :month")
-    long countByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    @Query("SELECT s.scheduleDate AS scheduleDate, s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM Schedule s WHERE s.scheduleDate >= :from " +
+           "AND s.startTime < :endTime AND s.endTime > :startTime")
+    List<ScheduleSlotView> findSlotsOverlappingTimeFrom(
+            @Param("from") LocalDate from,
+            @Param("startTime") LocalTime startTime,
+            @Param("endTime") LocalTime endTime
+    );
+
+    /**
+     * 특정 기간의 일정 수 조회 (컬럼에 함수를 씌우지 않는 범위 조건으로 날짜 인덱스 사용)
+     */
+    long countByScheduleDateBetween(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 특정 기간의 통계 집계용 프로젝션 조회 (날짜/팀/시작/종료)
+     */
+    @Query("SELECT s.scheduleDate AS scheduleDate, s.teamName AS teamName, " +
+           "s.startTime AS startTime, s.endTime AS endTime " +
+           "FROM Schedule s WHERE s.scheduleDate BETWEEN :startDate AND :endDate")
+    List<ScheduleStatView> findStatRowsBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 }
@@ -0,0 +1,36 @@
+package com.example.demo.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.entity.ScheduleSeries;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface ScheduleSeriesRepository extends JpaRepository<ScheduleSeries, Long> {
+
+    /**
+     * [startDate, endDate] 기간에 회차가 있을 수 있는 반복 일정 (예외 날짜 함께 로딩)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT DISTINCT s FROM ScheduleSeries s LEFT JOIN FETCH s.exceptions " +
+           "WHERE s.startDate <= :endDate AND (s.untilDate IS NULL OR s.untilDate >= :startDate)")
+    List<ScheduleSeries> findActiveBetween(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 모든 반복 일정 규칙 (충돌 검사용 인덱스 초기화)
+     */
+    @Query("SELECT DISTINCT s FROM ScheduleSeries s LEFT JOIN FETCH s.exceptions")
+    List<ScheduleSeries> findAllWithExceptions();
+}
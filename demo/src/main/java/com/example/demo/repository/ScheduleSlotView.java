@@ -0,0 +1,16 @@
+package com.example.demo.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 일정의 날짜/시간 구간만 담는 조회 전용 프로젝션 (빈 시간 계산용)
+ */
+public interface ScheduleSlotView {
+
+    LocalDate getScheduleDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
@@ -0,0 +1,9 @@
+package com.example.demo.repository;
+
+/**
+ * 통계 집계용 조회 전용 프로젝션 (시간 구간 + 팀 이름)
+ */
+public interface ScheduleStatView extends ScheduleSlotView {
+
+    String getTeamName();
+}
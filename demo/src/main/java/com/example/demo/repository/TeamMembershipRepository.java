@@ -0,0 +1,32 @@
+package com.example.demo.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class TeamMembershipRepository {
+
+    private static final String MERGE_MEMBERSHIP_SQL =
+            "MERGE INTO team_member (team_id, member_id) KEY (team_id, member_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팀 소속을 JDBC 배치 한 번으로 추가 (이미 있는 소속은 그대로)
+     * - 엔티티 컬렉션을 거치지 않으므로 팀의 기존 팀원을 읽지 않고, 같은 소속을 동시에 추가해도 중복 INSERT가 없음
+     */
+    public void addMemberships(Map<Long, Set<Long>> memberIdsByTeam) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        memberIdsByTeam.forEach((teamId, memberIds) ->
+                memberIds.forEach(memberId -> batchArgs.add(new Object[] { teamId, memberId })));
+        jdbcTemplate.batchUpdate(MERGE_MEMBERSHIP_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.entity.Team;
+
+@Repository
+public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    Optional<Team> findByName(String name);
+
+    List<Team> findByNameIn(Collection<String> names);
+
+    /**
+     * 최근 일정에 사용된 팀 조회 (팀원은 배치로 로딩)
+     */
+    List<Team> findByLastUsedAtNotNullOrderByLastUsedAtDesc(Limit limit);
+}
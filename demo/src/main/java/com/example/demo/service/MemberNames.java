@@ -0,0 +1,35 @@
+package com.example.demo.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 자유 형식 팀원 구성 문자열을 팀원 이름 목록으로 분리
+ * - 쉼표, 세미콜론, 슬래시, 가운뎃점, 줄바꿈을 구분자로 사용 (공백은 이름에 포함될 수 있어 구분하지 않음)
+ * - 앞뒤 공백 제거, 빈 이름/중복 제외, 최대 길이를 넘는 이름 제외
+ */
+public final class MemberNames {
+
+    public static final int MAX_NAME_LENGTH = 100;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,，、;/·\\r\\n]+");
+
+    private MemberNames() {
+    }
+
+    public static List<String> parse(String teamMembers) {
+        if (teamMembers == null || teamMembers.isBlank()) {
+            return List.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(teamMembers)) {
+            String name = token.strip();
+            if (!name.isEmpty() && name.length() <= MAX_NAME_LENGTH) {
+                names.add(name);
+            }
+        }
+        return List.copyOf(names);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.exception.UpdateConflictException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 낙관적 잠금(@Version) 충돌 시 재시도
+ *
+ * 매 시도를 새 트랜잭션에서 실행하므로 다시 읽은 최신 상태에 변경을 적용한다.
+ * 읽은 뒤 커밋 전에 다른 쓰기가 끼어든 경우만 재시도 대상이며,
+ * 사용자가 화면에서 본 버전이 이미 바뀐 경우는 작업 안에서 UpdateConflictException으로 바로 알린다.
+ * 클라이언트가 버전을 보낸 수정은 다시 읽어도 버전이 달라 충돌로 끝나므로 재시도하지 않는다.
+ */
+@Component
+@Slf4j
+public class OptimisticRetry {
+
+    public static final String CONFLICT_MESSAGE = "다른 사용자가 먼저 수정했습니다. 최신 내용을 확인한 뒤 다시 저장해주세요.";
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    public OptimisticRetry(
+            PlatformTransactionManager transactionManager,
+            @Value("${app.optimistic-lock.max-attempts:3}") int maxAttempts
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        return execute(action, true);
+    }
+
+    /**
+     * @param retryOnConflict false이면 커밋 시 충돌을 재시도 없이 바로 UpdateConflictException으로 변환
+     *                        (클라이언트가 기준 버전을 보낸 수정)
+     */
+    public <T> T execute(Supplier<T> action, boolean retryOnConflict) {
+        int attempts = retryOnConflict ? maxAttempts : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= attempts) {
+                    throw new UpdateConflictException(CONFLICT_MESSAGE, e);
+                }
+                log.debug("Optimistic lock conflict, retrying ({}/{})", attempt, attempts);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            // 같은 행을 노리는 쓰기들이 다시 동시에 부딪히지 않도록 짧게 흩어서 대기
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(1, 5L * attempt + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpdateConflictException(CONFLICT_MESSAGE, e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.example.demo.entity.Post;
+
+/**
+ * 게시글 검색 대상 필드와 관련도 가중치
+ */
+public enum PostSearchField {
+
+    TITLE(3.0, Post::getTitle),
+    AUTHOR(2.0, Post::getAuthor),
+    CONTENT(1.0, Post::getContent);
+
+    private final double weight;
+    private final Function<Post, String> extractor;
+
+    PostSearchField(double weight, Function<Post, String> extractor) {
+        this.weight = weight;
+        this.extractor = extractor;
+    }
+
+    public double weight() {
+        return weight;
+    }
+
+    public String textOf(Post post) {
+        return extractor.apply(post);
+    }
+
+    /**
+     * 화면의 검색 유형(title, author, content, all)을 검색 필드로 변환
+     * - 알 수 없는 값은 전체 필드로 검색
+     */
+    public static Set<PostSearchField> parse(String searchType) {
+        if (searchType == null) {
+            return EnumSet.allOf(PostSearchField.class);
+        }
+        switch (searchType) {
+            case "title":
+                return EnumSet.of(TITLE);
+            case "author":
+                return EnumSet.of(AUTHOR);
+            case "content":
+                return EnumSet.of(CONTENT);
+            default:
+                return EnumSet.allOf(PostSearchField.class);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.demo.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.entity.Post;
+import com.example.demo.repository.PostRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 전문 검색용 역색인
+ *
+ * 한국어는 공백 단위로 나누면 조사/어미 때문에 부분 검색이 되지 않으므로
+ * 제목/작성자/내용을 1-gram과 2-gram으로 색인한다.
+ * 검색어의 모든 n-gram을 포함하는 게시글만 찾고, 필드 가중치 x 빈도 x IDF 합으로 정렬한다.
+ * n-gram이 모두 있어도 검색어가 이어져 있지 않을 수 있으므로("가나 나다"는 "가나다"의 2-gram을 모두 포함)
+ * 후보는 정규화해 둔 필드 본문에 검색어 구간이 그대로 들어 있는지 다시 확인한다.
+ * 애플리케이션 기동 시(웹 서버가 요청을 받기 전) 전체 게시글로 색인을 만들고,
+ * 이후에는 게시글 등록/수정/삭제가 커밋될 때마다 해당 게시글만 갱신한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndex implements SmartInitializingSingleton {
+
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<PostSearchField, Map<String, Map<Long, Integer>>> postings = new EnumMap<>(PostSearchField.class);
+    private final Map<Long, Map<PostSearchField, Set<String>>> documents = new HashMap<>();
+    private final Map<Long, Map<PostSearchField, String>> texts = new HashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * 전체 게시글로 색인 재구성
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            texts.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("id"));
+        Page<Post> page;
+        do {
+            page = postRepository.findAll(pageable);
+            page.forEach(this::index);
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+        log.info("Post search index built with {} posts", size());
+    }
+
+    /**
+     * 게시글 색인 (이미 있으면 교체)
+     */
+    public void index(Post post) {
+        Map<PostSearchField, Map<String, Integer>> fieldGrams = new EnumMap<>(PostSearchField.class);
+        Map<PostSearchField, String> fieldTexts = new EnumMap<>(PostSearchField.class);
+        for (PostSearchField field : PostSearchField.values()) {
+            List<String> runs = runs(field.textOf(post));
+            fieldGrams.put(field, countGrams(runs));
+            fieldTexts.put(field, String.join(" ", runs));
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(post.getId());
+            Map<PostSearchField, Set<String>> terms = new EnumMap<>(PostSearchField.class);
+            fieldGrams.forEach((field, counts) -> {
+                Map<String, Map<Long, Integer>> fieldPostings = postings.computeIfAbsent(field, f -> new HashMap<>());
+                counts.forEach((gram, count) ->
+                        fieldPostings.computeIfAbsent(gram, g -> new HashMap<>()).put(post.getId(), count));
+                terms.put(field, counts.keySet());
+            });
+            documents.put(post.getId(), terms);
+            texts.put(post.getId(), fieldTexts);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 색인 제거
+     */
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋 후 게시글 색인 (등록/수정)
+     */
+    public void indexAfterCommit(Post post) {
+        TransactionHooks.afterCommit(() -> index(post));
+    }
+
+    /**
+     * 커밋 후 게시글 색인 제거 (삭제)
+     */
+    public void removeAfterCommit(Long postId) {
+        TransactionHooks.afterCommit(() -> remove(postId));
+    }
+
+    /**
+     * 관련도순 게시글 ID 검색
+     */
+    public Page<Long> search(String query, Set<PostSearchField> fields, Pageable pageable) {
+        List<String> terms = runs(query);
+        Set<String> grams = queryGrams(terms);
+        if (grams.isEmpty() || fields.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<Long, Double> scores;
+        lock.readLock().lock();
+        try {
+            scores = score(grams, fields);
+            scores.keySet().removeIf(postId -> !containsAll(postId, terms, fields));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())));
+
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), ranked.size()) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), ranked.size()) : ranked.size();
+        List<Long> ids = new ArrayList<>(to - from);
+        for (Map.Entry<Long, Double> entry : ranked.subList(from, to)) {
+            ids.add(entry.getKey());
+        }
+        return new PageImpl<>(ids, pageable, ranked.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> score(Set<String> grams, Set<PostSearchField> fields) {
+        // 후보를 빨리 줄이기 위해 문서 빈도가 낮은 n-gram부터 교집합
+        List<String> ordered = new ArrayList<>(grams);
+        ordered.sort(Comparator.comparingInt(gram -> documentFrequency(gram, fields)));
+
+        int totalDocuments = Math.max(documents.size(), 1);
+        Map<Long, Double> scores = null;
+        for (String gram : ordered) {
+            Map<Long, Double> gramScores = new HashMap<>();
+            for (PostSearchField field : fields) {
+                Map<Long, Integer> posting = postings.getOrDefault(field, Map.of()).get(gram);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) totalDocuments / posting.size());
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    if (scores == null || scores.containsKey(entry.getKey())) {
+                        gramScores.merge(entry.getKey(), field.weight() * entry.getValue() * idf, Double::sum);
+                    }
+                }
+            }
+            if (scores == null) {
+                scores = gramScores;
+            } else {
+                scores.keySet().retainAll(gramScores.keySet());
+                for (Map.Entry<Long, Double> entry : gramScores.entrySet()) {
+                    scores.merge(entry.getKey(), entry.getValue(), Double::sum);
+                }
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * 검색어의 구간마다 선택한 필드 중 하나에 이어진 문자열로 들어 있는지 확인
+     * - 구간 사이를 공백으로 이어 저장했으므로 구간 경계를 넘는 일치는 생기지 않음
+     */
+    private boolean containsAll(Long postId, List<String> terms, Set<PostSearchField> fields) {
+        Map<PostSearchField, String> fieldTexts = texts.getOrDefault(postId, Map.of());
+        for (String term : terms) {
+            boolean found = false;
+            for (PostSearchField field : fields) {
+                if (fieldTexts.getOrDefault(field, "").contains(term)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int documentFrequency(String gram, Set<PostSearchField> fields) {
+        int frequency = 0;
+        for (PostSearchField field : fields) {
+            Map<Long, Integer> posting = postings.getOrDefault(field, Map.of()).get(gram);
+            frequency += posting == null ? 0 : posting.size();
+        }
+        return frequency;
+    }
+
+    private void removeInternal(Long postId) {
+        texts.remove(postId);
+        Map<PostSearchField, Set<String>> terms = documents.remove(postId);
+        if (terms == null) {
+            return;
+        }
+        terms.forEach((field, grams) -> {
+            Map<String, Map<Long, Integer>> fieldPostings = postings.get(field);
+            for (String gram : grams) {
+                Map<Long, Integer> posting = fieldPostings.get(gram);
+                if (posting != null) {
+                    posting.remove(postId);
+                    if (posting.isEmpty()) {
+                        fieldPostings.remove(gram);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 색인용 n-gram 빈도: 연속된 문자/숫자 구간마다 1-gram과 2-gram
+     */
+    private static Map<String, Integer> countGrams(List<String> runs) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String run : runs) {
+            for (int i = 0; i < run.length(); i++) {
+                counts.merge(run.substring(i, i + 1), 1, Integer::sum);
+                if (i + 1 < run.length()) {
+                    counts.merge(run.substring(i, i + 2), 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 검색용 n-gram: 한 글자 구간은 1-gram, 그 외는 2-gram
+     */
+    private static Set<String> queryGrams(List<String> runs) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String run : runs) {
+            if (run.length() == 1) {
+                grams.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < run.length(); i++) {
+                grams.add(run.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return runs;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                runs.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return runs;
+    }
+}
@@ -1,12 +1,28 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.PostCursor;
+import com.example.demo.dto.PostDetailDto;
 import com.example.demo.dto.PostDto;
+import com.example.demo.dto.PostListPage;
+import com.example.demo.dto.PostSummaryDto;
 import com.example.demo.entity.Post;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.UpdateConflictException;
 import com.example.demo.repository.PostRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -17,41 +33,90 @@ import lombok.RequiredArgsConstructor;
 public class PostService {
     
     private final PostRepository postRepository;
+    private final PostViewCounter postViewCounter;
+    private final PostSearchIndex postSearchIndex;
+    private final ResourceVersionTracker versions;
+    private final OptimisticRetry optimisticRetry;
     
-    // 모든 게시글 조회 (최신순)
-    public List<Post> getAllPosts() {
-        return postRepository.findAllByOrderByCreatedAtDesc();
+    // 게시글 목록 조회 (최신순, 커서 기반 페이지, 내용 제외)
+    public PostListPage getPostPage(PostCursor cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+        List<PostSummaryDto> posts = cursor == null
+                ? postRepository.findLatestSummaries(limit)
+                : postRepository.findSummariesBefore(cursor.createdAt(), cursor.id(), limit);
+        
+        if (posts.size() <= size) {
+            return new PostListPage(posts, null);
+        }
+        List<PostSummaryDto> page = posts.subList(0, size);
+        return new PostListPage(page, PostCursor.of(page.get(size - 1)).encode());
     }
     
     // 게시글 상세 조회
     public Post getPostById(Long id) {
         return postRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다. ID: " + id));
     }
     
-    // 게시글 상세 조회 및 조회수 증가
-    @Transactional
-    public Post getPostByIdAndIncrementViews(Long id) {
+    // 게시글 상세 조회 및 조회수 증가 (조회수는 메모리에 누적 후 주기적으로 일괄 반영)
+    // - 누적분은 엔티티가 아니라 화면용 DTO에만 더함
+    public PostDetailDto getPostByIdAndIncrementViews(Long id) {
         Post post = getPostById(id);
-        post.incrementViews();
-        return post;
+        return PostDetailDto.of(post, postViewCounter.increment(id));
+    }
+    
+    // 게시글이 없으면 ResourceNotFoundException (조회수 누적 중인 게시글은 DB 조회 생략)
+    // - 조건부 GET 전에 확인해 없는 ID에 ETag를 내주거나 조회수 누적 대상을 만들지 않도록 함
+    public void requireExists(Long id) {
+        if (postViewCounter.pendingViews(id) == 0 && !postRepository.existsById(id)) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다. ID: " + id);
+        }
+    }
+    
+    // 조회수만 증가 (내용이 바뀌지 않아 304로 응답할 때, requireExists로 확인한 게시글만)
+    public void countView(Long id) {
+        postViewCounter.increment(id);
     }
     
     // 게시글 저장
     @Transactional
     public Post createPost(PostDto postDto) {
         Post post = new Post(postDto.getTitle(), postDto.getAuthor(), postDto.getContent());
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        postSearchIndex.indexAfterCommit(savedPost);
+        versions.bumpAfterCommit(ResourceVersionTracker.post(savedPost.getId()), ResourceVersionTracker.POST_LIST);
+        return savedPost;
     }
     
-    // 게시글 수정
-    @Transactional
+    // 게시글 수정 (버전 충돌 시 새 트랜잭션에서 다시 읽어 재시도하므로 메서드 자체는 트랜잭션 밖에서 실행)
+    // 기준 버전을 보낸 수정은 다시 읽어도 충돌이므로 재시도하지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Post updatePost(Long id, PostDto postDto) {
+        return optimisticRetry.execute(() -> applyUpdate(id, postDto), postDto.getVersion() == null);
+    }
+    
+    private Post applyUpdate(Long id, PostDto postDto) {
         Post post = getPostById(id);
+        // 폼을 연 뒤 다른 사용자가 수정했으면, 같은 내용으로 저장하는 경우가 아니면 충돌
+        if (postDto.getVersion() != null && !postDto.getVersion().equals(post.getVersion())) {
+            if (hasSameContent(post, postDto)) {
+                return post;
+            }
+            throw new UpdateConflictException(OptimisticRetry.CONFLICT_MESSAGE);
+        }
         post.setTitle(postDto.getTitle());
         post.setAuthor(postDto.getAuthor());
         post.setContent(postDto.getContent());
-        return postRepository.save(post);
+        Post savedPost = postRepository.save(post);
+        postSearchIndex.indexAfterCommit(savedPost);
+        versions.bumpAfterCommit(ResourceVersionTracker.post(savedPost.getId()), ResourceVersionTracker.POST_LIST);
+        return savedPost;
+    }
+    
+    private static boolean hasSameContent(Post post, PostDto postDto) {
+        return Objects.equals(post.getTitle(), postDto.getTitle())
+                && Objects.equals(post.getAuthor(), postDto.getAuthor())
+                && Objects.equals(post.getContent(), postDto.getContent());
     }
     
     // 게시글 삭제
@@ -59,15 +124,29 @@ public class PostService {
     public void deletePost(Long id) {
         Post post = getPostById(id);
         postRepository.delete(post);
+        postSearchIndex.removeAfterCommit(id);
+        versions.bumpAfterCommit(ResourceVersionTracker.post(id), ResourceVersionTracker.POST_LIST);
+    }
+    
+    // 검색 (n-gram 역색인, 관련도순)
+    public Page<Post> search(String keyword, Set<PostSearchField> fields, Pageable pageable) {
+        Page<Long> ids = postSearchIndex.search(keyword, fields, pageable);
+        Map<Long, Post> postsById = postRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        List<Post> posts = ids.getContent().stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(posts, pageable, ids.getTotalElements());
     }
     
     // 제목으로 검색
     public List<Post> searchByTitle(String keyword) {
-        return postRepository.findByTitleContaining(keyword);
+        return search(keyword, Set.of(PostSearchField.TITLE), Pageable.unpaged()).getContent();
     }
     
     // 작성자로 검색
     public List<Post> searchByAuthor(String keyword) {
-        return postRepository.findByAuthorContaining(keyword);
+        return search(keyword, Set.of(PostSearchField.AUTHOR), Pageable.unpaged()).getContent();
     }
 }
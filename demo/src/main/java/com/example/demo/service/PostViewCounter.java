@@ -0,0 +1,124 @@
+package com.example.demo.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.repository.PostViewCountRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 지연 반영 카운터
+ *
+ * 조회 시에는 게시글별 LongAdder에만 누적하고, 주기적으로 누적분을
+ * 게시글당 UPDATE 한 건씩 JDBC 배치로 반영한다.
+ * 반영에 실패한 누적분은 다시 더해 두고, 정상 종료 시 남은 누적분을 모두 반영한다.
+ * 한 주기 동안 조회가 없던 게시글의 카운터는 맵에서 제거해 조회된 적 있는 게시글 수만큼 쌓이지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostViewCounter {
+
+    private final PostViewCountRepository postViewCountRepository;
+
+    private final ConcurrentMap<Long, PendingViews> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가
+     *
+     * @return 아직 DB에 반영되지 않은 조회수 (이번 증가분 포함)
+     */
+    public long increment(Long postId) {
+        add(postId, 1);
+        return pendingViews(postId);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingViews(Long postId) {
+        PendingViews entry = pending.get(postId);
+        return entry == null ? 0 : entry.views.sum();
+    }
+
+    /**
+     * 누적 중인 게시글 수 (테스트용)
+     */
+    int trackedPosts() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${post.views.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((postId, entry) -> {
+            long delta = entry.views.sumThenReset();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                retire(postId, entry);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postViewCountRepository.incrementViews(deltas);
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush view counts for {} posts, will retry: {}", deltas.size(), e.getMessage());
+            deltas.forEach(this::add);
+        }
+    }
+
+    /**
+     * 게시글 카운터에 조회수를 더함
+     * - 더한 직후 카운터가 폐기된 것을 보면, flush가 가져가지 못했을 수 있는 누적분을 회수해 새 카운터로 옮김
+     * - sumThenReset은 셀 단위 getAndSet이라 같은 증가분을 flush와 이중으로 회수하지 않음
+     */
+    private void add(Long postId, long views) {
+        long remaining = views;
+        while (remaining > 0) {
+            PendingViews entry = pending.computeIfAbsent(postId, id -> new PendingViews());
+            entry.views.add(remaining);
+            if (!entry.retired) {
+                return;
+            }
+            remaining = entry.views.sumThenReset();
+        }
+    }
+
+    /**
+     * 한 주기 동안 조회가 없던 카운터를 제거
+     * - 폐기 표시 후에 남은 누적분을 다시 회수하므로, 표시 전에 더해진 조회수는 여기서, 이후 것은 add에서 옮겨짐
+     */
+    private void retire(Long postId, PendingViews entry) {
+        entry.retired = true;
+        pending.remove(postId, entry);
+        long raced = entry.views.sumThenReset();
+        if (raced > 0) {
+            add(postId, raced);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class PendingViews {
+
+        private final LongAdder views = new LongAdder();
+
+        private volatile boolean retired;
+    }
+}
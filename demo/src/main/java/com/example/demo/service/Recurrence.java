@@ -0,0 +1,157 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.example.demo.entity.ScheduleSeries;
+
+/**
+ * 반복 규칙 (시작일 요일에 N주 간격으로 반복)
+ *
+ * 회차를 만들어 두지 않고 날짜 계산만으로 특정 날짜의 회차 여부, 기간 안의 회차,
+ * 다른 반복 일정과 처음 겹치는 날짜를 구한다.
+ *
+ * @param seriesId  반복 일정 ID (저장 전 검사 시 null)
+ * @param untilDate 마지막 회차가 있을 수 있는 날짜 (null이면 끝없이 반복)
+ */
+public record Recurrence(Long seriesId, LocalDate startDate, LocalDate untilDate, int intervalWeeks,
+                         LocalTime startTime, LocalTime endTime, Set<LocalDate> exceptions) {
+
+    public Recurrence {
+        if (intervalWeeks < 1) {
+            throw new IllegalArgumentException("반복 간격은 1주 이상이어야 합니다.");
+        }
+        exceptions = Set.copyOf(exceptions);
+    }
+
+    public static Recurrence of(ScheduleSeries series) {
+        return new Recurrence(series.getId(), series.getStartDate(), series.getUntilDate(),
+                series.getIntervalWeeks(), series.getStartTime(), series.getEndTime(), series.getExceptions());
+    }
+
+    /**
+     * 종료일과 반복 횟수 중 먼저 끝나는 마지막 회차 날짜 (둘 다 없으면 null)
+     */
+    public static LocalDate lastOccurrence(LocalDate startDate, LocalDate untilDate, Integer count, int intervalWeeks) {
+        long periodDays = 7L * intervalWeeks;
+        LocalDate last = null;
+        if (untilDate != null) {
+            last = startDate.plusDays(ChronoUnit.DAYS.between(startDate, untilDate) / periodDays * periodDays);
+        }
+        if (count != null) {
+            LocalDate byCount = startDate.plusDays((count - 1L) * periodDays);
+            last = last == null || byCount.isBefore(last) ? byCount : last;
+        }
+        return last;
+    }
+
+    public Recurrence withSeriesId(Long seriesId) {
+        return new Recurrence(seriesId, startDate, untilDate, intervalWeeks, startTime, endTime, exceptions);
+    }
+
+    /**
+     * 해당 날짜가 (건너뛴 회차를 제외한) 회차인지
+     */
+    public boolean occursOn(LocalDate date) {
+        return isAligned(date) && !exceptions.contains(date);
+    }
+
+    /**
+     * [from, to] 기간의 회차 날짜 (건너뛴 회차 제외)
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate from, LocalDate to) {
+        LocalDate last = untilDate == null || to.isBefore(untilDate) ? to : untilDate;
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = firstOnOrAfter(from); !date.isAfter(last); date = date.plusDays(periodDays())) {
+            if (!exceptions.contains(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * 다른 반복 일정과 시간대가 겹치는 첫 회차 날짜
+     * - 두 규칙 모두 같은 요일의 주 간격이므로 공통 회차는 최소공배수 주기로 반복되며,
+     *   건너뛴 회차는 유한하므로 양쪽 예외 수 + 1번 안에 답이 정해짐
+     */
+    public Optional<LocalDate> firstConflict(Recurrence other) {
+        if (!overlapsTime(other.startTime, other.endTime)
+                || startDate.getDayOfWeek() != other.startDate.getDayOfWeek()) {
+            return Optional.empty();
+        }
+
+        LocalDate from = startDate.isAfter(other.startDate) ? startDate : other.startDate;
+        LocalDate to = untilDate == null ? other.untilDate
+                : other.untilDate == null || untilDate.isBefore(other.untilDate) ? untilDate : other.untilDate;
+        long commonPeriod = lcm(periodDays(), other.periodDays());
+
+        LocalDate common = null;
+        LocalDate date = firstOnOrAfter(from);
+        for (long i = 0; i < commonPeriod / periodDays(); i++, date = date.plusDays(periodDays())) {
+            if (other.isAligned(date)) {
+                common = date;
+                break;
+            }
+        }
+        if (common == null) {
+            return Optional.empty();
+        }
+
+        int attempts = exceptions.size() + other.exceptions.size() + 1;
+        for (int i = 0; i < attempts; i++, common = common.plusDays(commonPeriod)) {
+            if (to != null && common.isAfter(to)) {
+                return Optional.empty();
+            }
+            if (!exceptions.contains(common) && !other.exceptions.contains(common)) {
+                return Optional.of(common);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * [start, end) 시간대와 겹치는지
+     */
+    public boolean overlapsTime(LocalTime start, LocalTime end) {
+        return startTime.isBefore(end) && start.isBefore(endTime);
+    }
+
+    private long periodDays() {
+        return 7L * intervalWeeks;
+    }
+
+    /**
+     * 건너뛴 회차 여부와 관계없이 규칙상 회차 날짜인지
+     */
+    private boolean isAligned(LocalDate date) {
+        if (date.isBefore(startDate) || (untilDate != null && date.isAfter(untilDate))) {
+            return false;
+        }
+        return ChronoUnit.DAYS.between(startDate, date) % periodDays() == 0;
+    }
+
+    private LocalDate firstOnOrAfter(LocalDate date) {
+        if (!date.isAfter(startDate)) {
+            return startDate;
+        }
+        long days = ChronoUnit.DAYS.between(startDate, date);
+        return startDate.plusDays((days + periodDays() - 1) / periodDays() * periodDays());
+    }
+
+    private static long lcm(long a, long b) {
+        long x = a;
+        long y = b;
+        while (y != 0) {
+            long t = x % y;
+            x = y;
+            y = t;
+        }
+        return a / x * b;
+    }
+}
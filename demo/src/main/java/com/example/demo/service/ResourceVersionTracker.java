@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.event.ScheduleChangedEvent;
+
+/**
+ * 조건부 GET(ETag, Last-Modified)을 위한 리소스 버전 관리
+ *
+ * 월/일별 일정, 게시글, 게시글 목록마다 쓰기 시 증가하는 버전을 메모리에 유지한다.
+ * 버전만 비교하므로 변경이 없으면 DB 조회나 직렬화 없이 304로 응답할 수 있다.
+ * ETag에 기동 시각 기반 인스턴스 ID를 넣어 재시작 전의 ETag와는 일치하지 않도록 한다.
+ * 반복 일정 변경은 모든 날짜에 영향이 있으므로 월/일 일정 ETag 전체에 붙는 세대 번호를 올린다.
+ */
+@Component
+public class ResourceVersionTracker {
+
+    public static final Key POST_LIST = new Key("post-list", "");
+
+    private static final String SCHEDULE_MONTH = "schedule-month";
+    private static final String SCHEDULE_DAY = "schedule-day";
+
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final long startedAt = truncateToSeconds(System.currentTimeMillis());
+    private final ConcurrentMap<Key, Version> versions = new ConcurrentHashMap<>();
+    private final AtomicReference<Version> scheduleGeneration = new AtomicReference<>(new Version(0, startedAt));
+
+    public static Key month(YearMonth month) {
+        return new Key(SCHEDULE_MONTH, month);
+    }
+
+    public static Key day(LocalDate date) {
+        return new Key(SCHEDULE_DAY, date);
+    }
+
+    public static Key post(Long postId) {
+        return new Key("post", postId);
+    }
+
+    public String etag(Key key) {
+        Version version = versions.get(key);
+        long counter = version == null ? 0 : version.counter();
+        if (isSchedule(key)) {
+            return "\"" + instanceId + "-" + scheduleGeneration.get().counter() + "-" + counter + "\"";
+        }
+        return "\"" + instanceId + "-" + counter + "\"";
+    }
+
+    public long lastModified(Key key) {
+        Version version = versions.get(key);
+        long lastModified = version == null ? startedAt : version.lastModified();
+        return isSchedule(key) ? Math.max(lastModified, scheduleGeneration.get().lastModified()) : lastModified;
+    }
+
+    public void bump(Key... keys) {
+        long now = truncateToSeconds(System.currentTimeMillis());
+        for (Key key : keys) {
+            versions.merge(key, new Version(1, now),
+                    (previous, next) -> new Version(previous.counter() + 1, Math.max(previous.lastModified(), now)));
+        }
+    }
+
+    /**
+     * 커밋 후 버전 증가
+     */
+    public void bumpAfterCommit(Key... keys) {
+        TransactionHooks.afterCommit(() -> bump(keys));
+    }
+
+    /**
+     * 일정 변경 시 해당 월/일 버전 증가 (월 캐시 무효화 이후에 실행되어야 새 ETag에 이전 데이터가 붙지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(1)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.affectsAllDates()) {
+            long now = truncateToSeconds(System.currentTimeMillis());
+            scheduleGeneration.updateAndGet(previous ->
+                    new Version(previous.counter() + 1, Math.max(previous.lastModified(), now)));
+            return;
+        }
+        for (LocalDate date : event.dates()) {
+            bump(month(YearMonth.from(date)), day(date));
+        }
+    }
+
+    private static boolean isSchedule(Key key) {
+        return SCHEDULE_MONTH.equals(key.type()) || SCHEDULE_DAY.equals(key.type());
+    }
+
+    private static long truncateToSeconds(long millis) {
+        return millis / 1000 * 1000;
+    }
+
+    public record Key(String type, Object value) {
+    }
+
+    private record Version(long counter, long lastModified) {
+    }
+}
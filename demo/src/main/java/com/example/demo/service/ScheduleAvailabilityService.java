@@ -0,0 +1,101 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.AvailableSlotDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.repository.ScheduleRepository;
+import com.example.demo.repository.ScheduleSlotView;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 빈 시간대 검색
+ *
+ * 기간 전체의 일정 시간 구간을 한 번의 조회로 가져와 날짜마다 분 단위 비트맵(1,440비트)에 표시한 뒤,
+ * 비어 있는 비트 구간 중 요청한 길이 이상인 것을 찾는다.
+ * 일정 등록은 팀과 관계없이 시간이 겹치면 거절하므로 바쁜 시간도 모든 팀의 일정으로 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScheduleAvailabilityService {
+
+    public static final int MAX_RANGE_DAYS = 92;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleSeriesService seriesService;
+
+    /**
+     * [from, to] 기간에서 하루 중 [dayStart, dayEnd) 안에 durationMinutes 이상 비어 있는 구간 조회
+     * - dayEnd가 null이면 하루 끝(자정)까지 보며, 자정까지 비어 있는 구간의 종료 시각은 LocalTime.MAX
+     */
+    public List<AvailableSlotDto> findAvailableSlots(LocalDate from, LocalDate to, int durationMinutes,
+                                                     LocalTime dayStart, LocalTime dayEnd) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("조회 기간은 1일 이상 " + MAX_RANGE_DAYS + "일 이하여야 합니다.");
+        }
+        int windowStart = (dayStart.toSecondOfDay() + 59) / 60;
+        int windowEnd = dayEnd == null ? MINUTES_PER_DAY : dayEnd.toSecondOfDay() / 60;
+        if (durationMinutes <= 0 || windowEnd <= windowStart) {
+            throw new InvalidRequestException("일정 길이와 조회 시간대를 확인해주세요.");
+        }
+
+        Map<LocalDate, BitSet> busyByDate = new HashMap<>();
+        for (ScheduleSlotView slot : scheduleRepository.findSlotsBetween(from, to)) {
+            markBusy(busyByDate, slot.getScheduleDate(), slot.getStartTime(), slot.getEndTime());
+        }
+        // 반복 일정 회차 (조회 기간의 월만 펼친 결과)
+        for (ScheduleResponseDto occurrence : seriesService.getOccurrencesBetween(from, to)) {
+            markBusy(busyByDate, occurrence.getScheduleDate(), occurrence.getStartTime(), occurrence.getEndTime());
+        }
+
+        BitSet empty = new BitSet(0);
+        List<AvailableSlotDto> available = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            BitSet busy = busyByDate.getOrDefault(date, empty);
+            int cursor = windowStart;
+            while (cursor < windowEnd) {
+                int free = busy.nextClearBit(cursor);
+                if (free >= windowEnd) {
+                    break;
+                }
+                int nextBusy = busy.nextSetBit(free);
+                int end = (nextBusy < 0 || nextBusy > windowEnd) ? windowEnd : nextBusy;
+                if (end - free >= durationMinutes) {
+                    available.add(new AvailableSlotDto(date, toTime(free), toTime(end)));
+                }
+                cursor = end;
+            }
+        }
+        return available;
+    }
+
+    private static void markBusy(Map<LocalDate, BitSet> busyByDate, LocalDate date,
+                                 LocalTime startTime, LocalTime endTime) {
+        int start = startTime.getHour() * 60 + startTime.getMinute();
+        // 초 단위가 있으면 끝 분까지 바쁜 것으로 보고 올림
+        int end = (endTime.toSecondOfDay() + 59) / 60;
+        if (end > start) {
+            busyByDate.computeIfAbsent(date, key -> new BitSet(MINUTES_PER_DAY))
+                    .set(start, Math.min(end, MINUTES_PER_DAY));
+        }
+    }
+
+    private static LocalTime toTime(int minuteOfDay) {
+        return minuteOfDay >= MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+}
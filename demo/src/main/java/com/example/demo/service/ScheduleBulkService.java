@@ -0,0 +1,239 @@
+package com.example.demo.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.ScheduleImportResultDto;
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.entity.Schedule;
+import com.example.demo.event.ScheduleChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일정 일괄 등록
+ *
+ * 입력을 한 줄씩 읽어 청크 단위로 처리한다.
+ * - 파싱과 Bean Validation은 DB 접근이 없으므로 청크 안에서 병렬로 수행
+ * - 충돌 검사는 구간 인덱스로 기존 일정과 같은 입력 안의 앞선 행 모두에 대해 수행
+ * - 저장은 청크마다 하나의 트랜잭션에서 persist 후 flush하여 JDBC 배치 INSERT로 반영
+ *   (청크의 날짜를 구간 인덱스에 미리 올려 persist 사이에 조회 쿼리와 자동 flush가 끼어들지 않도록 함)
+ */
+@Service
+@Slf4j
+public class ScheduleBulkService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ScheduleIntervalIndex intervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamService teamService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public ScheduleBulkService(
+            ScheduleIntervalIndex intervalIndex,
+            ApplicationEventPublisher eventPublisher,
+            TeamService teamService,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${schedule.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.intervalIndex = intervalIndex;
+        this.eventPublisher = eventPublisher;
+        this.teamService = teamService;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * CSV 또는 NDJSON 입력을 읽어 일괄 등록
+     * - CSV 첫 줄이 헤더(ScheduleCsv.HEADER)와 같으면 건너뜀
+     */
+    public ScheduleImportResultDto importSchedules(BufferedReader reader, ScheduleTransferFormat format)
+            throws IOException {
+        log.info("Importing schedules ({})", format);
+        ImportProgress progress = new ImportProgress();
+        List<RawRow> chunk = new ArrayList<>(chunkSize);
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && format == ScheduleTransferFormat.CSV
+                    && line.strip().equals(ScheduleCsv.HEADER))) {
+                continue;
+            }
+            chunk.add(new RawRow(lineNumber, line));
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, format, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, format, progress);
+        }
+
+        log.info("Imported {} of {} schedules", progress.imported, progress.total);
+        return progress.toResult();
+    }
+
+    private void importChunk(List<RawRow> rows, ScheduleTransferFormat format, ImportProgress progress) {
+        progress.total += rows.size();
+
+        // 파싱/검증은 병렬로, 결과 순서는 입력 순서 유지
+        List<ParsedRow> parsed = rows.parallelStream()
+                .map(row -> parse(row, format))
+                .collect(Collectors.toList());
+
+        List<ParsedRow> valid = new ArrayList<>(parsed.size());
+        for (ParsedRow row : parsed) {
+            if (row.error() != null) {
+                progress.reject(row.line(), row.error());
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        List<RowFailure> conflicts = new ArrayList<>();
+        try {
+            Integer imported = transactionTemplate.execute(status -> {
+                conflicts.clear();
+                Set<LocalDate> dates = new HashSet<>();
+                List<Schedule> schedules = valid.stream()
+                        .map(row -> Schedule.builder()
+                                .teamName(row.schedule().getTeamName())
+                                .teamMembers(row.schedule().getTeamMembers())
+                                .scheduleDate(row.schedule().getScheduleDate())
+                                .startTime(row.schedule().getStartTime())
+                                .endTime(row.schedule().getEndTime())
+                                .build())
+                        .toList();
+                // 청크의 날짜를 한 번에 구간 인덱스에 올린 뒤 한꺼번에 예약
+                // 팀/팀원 연결(생성, 최근 사용 시각 갱신)은 겹치지 않아 예약된 일정만 한 번에 처리
+                intervalIndex.preload(valid.stream().map(row -> row.schedule().getScheduleDate()).toList());
+                Set<Schedule> booked = new HashSet<>(intervalIndex.bookAll(schedules, accepted -> {
+                    teamService.assign(accepted);
+                    accepted.forEach(entityManager::persist);
+                }));
+
+                int count = 0;
+                for (int i = 0; i < valid.size(); i++) {
+                    Schedule schedule = schedules.get(i);
+                    if (!booked.contains(schedule)) {
+                        conflicts.add(new RowFailure(valid.get(i).line(), ScheduleIntervalIndex.OVERLAP_MESSAGE));
+                        continue;
+                    }
+                    dates.add(schedule.getScheduleDate());
+                    count++;
+                }
+                entityManager.flush();
+                entityManager.clear();
+                eventPublisher.publishEvent(ScheduleChangedEvent.imported(dates));
+                return count;
+            });
+            progress.imported += imported == null ? 0 : imported;
+            conflicts.forEach(failure -> progress.reject(failure.line(), failure.message()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to import schedules at lines {}-{}: {}",
+                    valid.get(0).line(), valid.get(valid.size() - 1).line(), e.getMessage());
+            for (ParsedRow row : valid) {
+                progress.reject(row.line(), "저장 중 오류가 발생했습니다.");
+            }
+        }
+    }
+
+    private ParsedRow parse(RawRow row, ScheduleTransferFormat format) {
+        ScheduleRequestDto dto;
+        try {
+            dto = format == ScheduleTransferFormat.NDJSON
+                    ? objectMapper.readValue(row.text(), ScheduleRequestDto.class)
+                    : fromCsv(row.text());
+        } catch (JsonProcessingException | DateTimeParseException | IllegalArgumentException e) {
+            return ParsedRow.failed(row.line(), "형식이 올바르지 않습니다: " + e.getMessage());
+        }
+
+        Set<ConstraintViolation<ScheduleRequestDto>> violations = validator.validate(dto);
+        // 시작/종료 시간 관계도 DTO 검증(@ValidScheduleTimes)에 포함
+        if (!violations.isEmpty()) {
+            return ParsedRow.failed(row.line(), violations.iterator().next().getMessage());
+        }
+        return new ParsedRow(row.line(), dto, null);
+    }
+
+    private static ScheduleRequestDto fromCsv(String line) {
+        List<String> values = ScheduleCsv.parseLine(line);
+        if (values.size() != 5) {
+            throw new IllegalArgumentException("열 개수는 5개여야 합니다.");
+        }
+        return ScheduleRequestDto.builder()
+                .teamName(values.get(0))
+                .teamMembers(values.get(1).isEmpty() ? null : values.get(1))
+                .scheduleDate(LocalDate.parse(values.get(2)))
+                .startTime(LocalTime.parse(values.get(3)))
+                .endTime(LocalTime.parse(values.get(4)))
+                .build();
+    }
+
+    private record RawRow(int line, String text) {
+    }
+
+    private record ParsedRow(int line, ScheduleRequestDto schedule, String error) {
+
+        static ParsedRow failed(int line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+
+    private record RowFailure(int line, String message) {
+    }
+
+    private static final class ImportProgress {
+
+        private int total;
+        private int imported;
+        private int rejected;
+        private final List<ScheduleImportResultDto.RowError> errors = new ArrayList<>();
+
+        void reject(int line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ScheduleImportResultDto.RowError(line, message));
+            }
+        }
+
+        ScheduleImportResultDto toResult() {
+            return new ScheduleImportResultDto(total, imported, rejected, errors, rejected > errors.size());
+        }
+    }
+}
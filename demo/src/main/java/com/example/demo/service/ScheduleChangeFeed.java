@@ -0,0 +1,337 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.demo.dto.ScheduleChangeFeedDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.event.ScheduleChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월 단위 일정 변경 피드 (Server-Sent Events)
+ *
+ * 커밋된 일정 변경을 구독자가 있는 월에 대해서만 모아 두었다가, 짧은 주기마다 월당 메시지 하나로 합쳐 보낸다.
+ * - 같은 주기 안에서 한 일정이 여러 번 바뀌면 마지막 상태만 전송
+ * - 메시지는 월당 한 번만 직렬화하고 같은 SSE 프레임을 모든 구독자에게 전송
+ * - 연결은 서블릿 비동기 요청으로 유지되므로 대기 중인 연결이 요청 스레드를 점유하지 않음
+ * - 주기적인 하트비트로 프록시의 유휴 연결 종료를 막고 끊긴 연결을 정리
+ * - 실제 전송은 전용 스레드에서 구독자별 대기열 순서대로 하므로, 느린 클라이언트가 다른 구독자나
+ *   다른 @Scheduled 작업(조회수 반영 등)을 막지 않음. 대기열이 넘치는 구독자는 연결을 끊고 재연결시킴
+ * - 동시 구독 수는 max-subscribers로 제한
+ */
+@Component
+@Slf4j
+public class ScheduleChangeFeed {
+
+    static final String EVENT_NAME = "schedules";
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxSubscribers;
+    private final int maxQueuedFrames;
+    private final ThreadPoolExecutor sendExecutor;
+
+    private final ConcurrentMap<YearMonth, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private Map<YearMonth, PendingMonth> pending = new HashMap<>();
+
+    public ScheduleChangeFeed(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${schedule.feed.timeout-ms:1800000}") long timeoutMs,
+            @Value("${schedule.feed.max-subscribers:1000}") int maxSubscribers,
+            @Value("${schedule.feed.max-queued-frames:16}") int maxQueuedFrames,
+            @Value("${schedule.feed.send-threads:4}") int sendThreads
+    ) {
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.maxQueuedFrames = maxQueuedFrames;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 구독자마다 전송 작업은 최대 하나만 대기하므로 대기열 길이는 구독 수 상한을 넘지 않음
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "schedule-feed-send-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        Gauge.builder("app.schedule.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open schedule change feed connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해당 월 변경 구독 (구독 수 상한에 도달했으면 empty)
+     * - 연결이 끝나면(완료, 시간 초과, 오류) 구독 해제되며 EventSource가 자동으로 다시 연결
+     */
+    public Optional<SseEmitter> subscribe(YearMonth month) {
+        if (!tryReserveSlot()) {
+            return Optional.empty();
+        }
+        Subscriber subscriber = new Subscriber(month, createEmitter(timeoutMs));
+        subscribers.compute(month, (key, emitters) -> {
+            Set<Subscriber> subscribed = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            subscribed.add(subscriber);
+            return subscribed;
+        });
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+
+        // 응답 헤더를 바로 내보내 클라이언트가 연결 완료를 알 수 있도록 함
+        subscriber.enqueue(SseEmitter.event().comment("subscribed").build());
+        return Optional.of(subscriber.emitter);
+    }
+
+    /**
+     * 구독 연결 생성 (테스트에서 전송 내용을 확인할 수 있도록 분리)
+     */
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private boolean tryReserveSlot() {
+        while (true) {
+            int current = subscriberCount.get();
+            if (current >= maxSubscribers) {
+                return false;
+            }
+            if (subscriberCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 커밋된 변경을 전송 대기 목록에 합침 (월 캐시 무효화, 버전 증가 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(2)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        // 반복 일정 변경은 구독 중인 모든 월에 다시 조회하도록 알림
+        Set<YearMonth> months = event.affectsAllDates() ? subscribers.keySet() : event.months();
+        synchronized (this) {
+            for (YearMonth month : months) {
+                if (subscribers.containsKey(month)) {
+                    pending.computeIfAbsent(month, key -> new PendingMonth()).apply(month, event);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.feed.flush-interval-ms:500}")
+    public void flush() {
+        Map<YearMonth, PendingMonth> changes;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            changes = pending;
+            pending = new HashMap<>();
+        }
+
+        changes.forEach((month, changed) -> {
+            Set<Subscriber> emitters = subscribers.get(month);
+            if (emitters == null || emitters.isEmpty()) {
+                return;
+            }
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(changed.toDto(month));
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialize schedule changes for {}: {}", month, e.getMessage());
+                return;
+            }
+            broadcast(emitters, SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(payload, MediaType.APPLICATION_JSON)
+                    .build());
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${schedule.feed.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.values().forEach(emitters -> broadcast(emitters, ping));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * 구독자별 대기열에 넣기만 하고 바로 반환 (전송은 전송 스레드에서)
+     */
+    private void broadcast(Set<Subscriber> emitters, Set<DataWithMediaType> frame) {
+        for (Subscriber subscriber : emitters) {
+            subscriber.enqueue(frame);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscriber.month, (key, emitters) -> {
+            removed[0] = emitters.remove(subscriber);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        if (removed[0]) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 구독 연결 하나와 전송 대기 프레임
+     * - 전송 작업은 구독자당 최대 하나만 실행되어 프레임 순서가 유지되고, 느린 연결은 전송 스레드 하나만 붙잡음
+     */
+    private final class Subscriber {
+
+        private final YearMonth month;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(YearMonth month, SseEmitter emitter) {
+            this.month = month;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<DataWithMediaType> frame) {
+            if (closed) {
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueuedFrames) {
+                // 보낸 만큼 받지 못하는 클라이언트: 연결을 끊어 재연결 후 다시 조회하도록 함
+                close();
+                return;
+            }
+            frames.add(frame);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                unsubscribe(this);
+                frames.clear();
+            }
+        }
+
+        private void drain() {
+            Set<DataWithMediaType> frame;
+            while ((frame = frames.poll()) != null) {
+                if (closed) {
+                    break;
+                }
+                queued.decrementAndGet();
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    // 끊긴 연결 (완료 콜백을 기다리지 않고 바로 정리, 남은 프레임은 버림)
+                    unsubscribe(this);
+                    return;
+                }
+            }
+            if (closed) {
+                // 완료 처리도 전송 스레드에서 (느린 전송이 끝나길 기다리는 동안 호출 스레드를 막지 않도록)
+                emitter.complete();
+                return;
+            }
+            draining.set(false);
+            // 마지막 poll과 draining 해제 사이에 들어온 프레임
+            if (!frames.isEmpty() || closed) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * 구독 해제 후 연결 완료 (완료는 전송 스레드가 진행 중인 전송을 마친 뒤 처리)
+         */
+        private void close() {
+            closed = true;
+            unsubscribe(this);
+            frames.clear();
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * 한 달치 전송 대기 변경
+     */
+    private static final class PendingMonth {
+
+        private final Map<Long, ScheduleResponseDto> upserted = new LinkedHashMap<>();
+        private final Set<Long> deleted = new LinkedHashSet<>();
+        private boolean reload;
+
+        void apply(YearMonth month, ScheduleChangedEvent event) {
+            if (event.type() == ScheduleChangedEvent.ChangeType.IMPORTED || event.affectsAllDates()) {
+                reload = true;
+                upserted.clear();
+                deleted.clear();
+                return;
+            }
+            if (reload) {
+                return;
+            }
+            ScheduleResponseDto current = event.current();
+            // 다른 달로 옮겨진 일정은 이 달에서는 삭제로 전달
+            if (current != null && YearMonth.from(current.getScheduleDate()).equals(month)) {
+                upserted.put(event.scheduleId(), current);
+                deleted.remove(event.scheduleId());
+            } else {
+                upserted.remove(event.scheduleId());
+                deleted.add(event.scheduleId());
+            }
+        }
+
+        ScheduleChangeFeedDto toDto(YearMonth month) {
+            return new ScheduleChangeFeedDto(month, new ArrayList<>(upserted.values()), List.copyOf(deleted), reload);
+        }
+    }
+}
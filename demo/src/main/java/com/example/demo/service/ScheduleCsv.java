@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.dto.ScheduleResponseDto;
+
+/**
+ * 일정 CSV 한 줄 변환
+ * - 열 순서: teamName, teamMembers, scheduleDate, startTime, endTime
+ * - 쉼표/따옴표가 포함된 값은 큰따옴표로 감싸고 내부 따옴표는 두 번 씀
+ */
+public final class ScheduleCsv {
+
+    public static final String HEADER = "teamName,teamMembers,scheduleDate,startTime,endTime";
+
+    private ScheduleCsv() {
+    }
+
+    public static List<String> parseLine(String line) {
+        List<String> values = new ArrayList<>(5);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString().trim());
+        return values;
+    }
+
+    public static String toLine(ScheduleResponseDto schedule) {
+        return escape(schedule.getTeamName()) + ','
+                + escape(schedule.getTeamMembers()) + ','
+                + schedule.getScheduleDate() + ','
+                + schedule.getStartTime() + ','
+                + schedule.getEndTime();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
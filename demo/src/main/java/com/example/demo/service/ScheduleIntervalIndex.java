@@ -0,0 +1,663 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.entity.Schedule;
+import com.example.demo.entity.ScheduleSeries;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.repository.ScheduleIntervalView;
+import com.example.demo.repository.ScheduleRepository;
+import com.example.demo.repository.ScheduleSeriesRepository;
+import com.example.demo.repository.ScheduleSlotView;
+
+/**
+ * 날짜별 일정 시간 구간 인덱스
+ *
+ * 날짜마다 시작 시간 순으로 정렬된 구간 집합을 메모리에 유지하여
+ * 충돌 여부와 첫 번째 빈 시간대를 DB 조회 없이 O(log n)으로 판단한다.
+ * 날짜 단위 잠금 안에서 충돌 검사와 저장을 함께 수행하므로 동시에 들어온
+ * 겹치는 등록은 하나만 성공하고, 트랜잭션이 롤백되면 예약한 구간도 되돌린다.
+ *
+ * 반복 일정은 규칙만 메모리에 두고, 날짜를 처음 올릴 때 그 날의 회차를 구간(음수 ID)으로 함께 넣는다.
+ * 반복 일정 등록은 회차를 펼치지 않고 규칙끼리 비교하며, 단건 일정은 올라온 날짜와 DB를 함께 확인한다.
+ * 반복 일정 등록은 쓰기 잠금, 단건 예약과 날짜 로드는 읽기 잠금을 잡아 서로를 놓치지 않도록 한다.
+ *
+ * 날짜 로드 쿼리는 맵 잠금 밖에서 날짜당 한 번만 실행하고(같은 날짜를 기다리는 요청은 결과를 공유),
+ * 올라온 날짜가 max-days를 넘으면 가장 오래 쓰지 않은 날짜부터 내린다.
+ * 커밋 전 예약이 있는 날짜는 내리지 않으며, 내린 날짜를 잡고 있던 요청은 새로 올린 날짜로 다시 시도한다.
+ */
+@Component
+public class ScheduleIntervalIndex {
+
+    public static final String OVERLAP_MESSAGE = "선택한 시간대에 이미 다른 일정이 있습니다.";
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleSeriesRepository seriesRepository;
+    private final int maxDays;
+
+    private final ConcurrentMap<LocalDate, DayIntervals> days = new ConcurrentHashMap<>();
+    private final ConcurrentMap<LocalDate, CompletableFuture<DayIntervals>> loading = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final ReentrantReadWriteLock seriesLock = new ReentrantReadWriteLock();
+    // 반복 일정 ID -> 규칙 (쓰기 잠금 안에서 통째로 교체)
+    private volatile Map<Long, Recurrence> series;
+    // 규칙 최초 로드 (읽기 잠금만 잡은 여러 요청이 동시에 로드하지 않도록)
+    private final ReentrantLock seriesLoadLock = new ReentrantLock();
+
+    public ScheduleIntervalIndex(
+            ScheduleRepository scheduleRepository,
+            ScheduleSeriesRepository seriesRepository,
+            @Value("${schedule.interval-index.max-days:4096}") int maxDays
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.seriesRepository = seriesRepository;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * 해당 날짜에 [startTime, endTime) 구간과 겹치는 일정이 있는지 확인
+     */
+    public boolean overlaps(LocalDate date, LocalTime startTime, LocalTime endTime, Long excludeId) {
+        return withDay(date, day -> day.overlaps(toSecond(startTime), toSecond(endTime), excludeId));
+    }
+
+    /**
+     * [from, to) 범위 안에서 duration 만큼 비어 있는 첫 번째 시작 시간 조회
+     */
+    public Optional<LocalTime> findFirstFreeSlot(LocalDate date, LocalTime from, LocalTime to, Duration duration) {
+        int start = toSecond(from);
+        int limit = to == null ? DayIntervals.END_OF_DAY : toSecond(to);
+        long length = duration.getSeconds();
+        if (length <= 0 || start + length > limit) {
+            return Optional.empty();
+        }
+
+        int slot = withDay(date, day -> day.firstFree(start, (int) length, limit));
+        return slot < 0 ? Optional.empty() : Optional.of(LocalTime.ofSecondOfDay(slot));
+    }
+
+    /**
+     * 충돌 검사 후 저장하고 구간을 예약
+     * - 검사와 저장이 같은 날짜 잠금 안에서 수행되므로 겹치는 동시 등록을 원자적으로 거부
+     * - 트랜잭션이 롤백되면 예약한 구간을 이전 상태로 되돌림
+     *
+     * @param scheduleId 수정 대상 일정 ID (등록 시 null)
+     */
+    public Schedule book(LocalDate date, LocalTime startTime, LocalTime endTime, Long scheduleId,
+                         Supplier<Schedule> writer) {
+        int start = toSecond(startTime);
+        int end = toSecond(endTime);
+
+        // 반복 일정 등록(쓰기 잠금)과 동시에 진행되지 않도록 읽기 잠금
+        seriesLock.readLock().lock();
+        try {
+            DayIntervals day = lockDay(date);
+            try {
+                if (day.overlaps(start, end, scheduleId)) {
+                    throw new InvalidRequestException(OVERLAP_MESSAGE);
+                }
+                Schedule saved = writer.get();
+                Slot previous = day.put(new Slot(saved.getId(), start, end));
+                // 완료 전까지는 DB에 없는 구간이므로 내리지 않음
+                day.pendingBookings++;
+
+                TransactionHooks.afterCompletion(committed -> {
+                    day.lock.lock();
+                    try {
+                        day.pendingBookings--;
+                        if (!committed) {
+                            day.remove(saved.getId());
+                            if (previous != null) {
+                                day.put(previous);
+                            }
+                        }
+                    } finally {
+                        day.lock.unlock();
+                    }
+                });
+                return saved;
+            } finally {
+                day.lock.unlock();
+            }
+        } finally {
+            seriesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 일정을 한 번에 충돌 검사 후 저장하고 구간을 예약 (일괄 등록)
+     * - 관련 날짜를 날짜 순으로 모두 잠근 채 검사하고, 기존 일정이나 앞선 일정과 겹치지 않는 것만 writer에 넘김
+     * - writer가 받은 일정에만 ID를 부여(저장)하므로 거부된 일정에는 저장 부수 효과가 없음
+     * - 트랜잭션이 롤백되면 예약한 구간을 되돌림
+     *
+     * @return 예약한 일정 (입력 순서 유지)
+     */
+    public List<Schedule> bookAll(List<Schedule> schedules, Consumer<List<Schedule>> writer) {
+        seriesLock.readLock().lock();
+        try {
+            Map<LocalDate, DayIntervals> locked = new TreeMap<>();
+            try {
+                for (LocalDate date : new TreeSet<>(schedules.stream().map(Schedule::getScheduleDate).toList())) {
+                    locked.put(date, lockDay(date));
+                }
+
+                // ID가 없는 동안은 임시 ID로 구간을 잡아 두어 같은 묶음 안의 겹침도 거름
+                List<Schedule> booked = new ArrayList<>();
+                Map<Slot, DayIntervals> placeholders = new HashMap<>();
+                long placeholderId = Long.MIN_VALUE + 1;
+                for (Schedule schedule : schedules) {
+                    DayIntervals day = locked.get(schedule.getScheduleDate());
+                    int start = toSecond(schedule.getStartTime());
+                    int end = toSecond(schedule.getEndTime());
+                    if (day.overlaps(start, end, null)) {
+                        continue;
+                    }
+                    Slot placeholder = new Slot(placeholderId++, start, end);
+                    day.put(placeholder);
+                    placeholders.put(placeholder, day);
+                    booked.add(schedule);
+                }
+                try {
+                    writer.accept(booked);
+                } finally {
+                    placeholders.forEach((slot, day) -> day.remove(slot.id()));
+                }
+
+                List<Slot> reserved = new ArrayList<>(booked.size());
+                for (Schedule schedule : booked) {
+                    DayIntervals day = locked.get(schedule.getScheduleDate());
+                    Slot slot = new Slot(schedule.getId(), toSecond(schedule.getStartTime()),
+                            toSecond(schedule.getEndTime()));
+                    day.put(slot);
+                    day.pendingBookings++;
+                    reserved.add(slot);
+                }
+                List<DayIntervals> reservedDays = booked.stream()
+                        .map(schedule -> locked.get(schedule.getScheduleDate()))
+                        .toList();
+                TransactionHooks.afterCompletion(committed -> {
+                    for (int i = 0; i < reserved.size(); i++) {
+                        DayIntervals day = reservedDays.get(i);
+                        day.lock.lock();
+                        try {
+                            day.pendingBookings--;
+                            if (!committed) {
+                                day.remove(reserved.get(i).id());
+                            }
+                        } finally {
+                            day.lock.unlock();
+                        }
+                    }
+                });
+                return booked;
+            } finally {
+                locked.values().forEach(day -> day.lock.unlock());
+            }
+        } finally {
+            seriesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 반복 일정 충돌 검사 후 저장하고 규칙을 등록
+     * - 다른 반복 일정과는 규칙끼리 비교 (회차를 펼치지 않음)
+     * - 단건 일정은 메모리에 올라온 날짜(커밋 전 예약 포함)와, 그 밖의 날짜는 DB에서 시간대가 겹치는 일정만 확인
+     * - 트랜잭션이 롤백되면 등록을 되돌림
+     */
+    public ScheduleSeries bookSeries(Recurrence candidate, Supplier<ScheduleSeries> writer) {
+        seriesLock.writeLock().lock();
+        try {
+            for (Recurrence existing : series().values()) {
+                Optional<LocalDate> conflict = candidate.firstConflict(existing);
+                if (conflict.isPresent()) {
+                    throw new InvalidRequestException(seriesOverlapMessage(conflict.get()));
+                }
+            }
+            Optional<LocalDate> conflict = findScheduleConflict(candidate);
+            if (conflict.isPresent()) {
+                throw new InvalidRequestException(seriesOverlapMessage(conflict.get()));
+            }
+
+            ScheduleSeries saved = writer.get();
+            register(candidate.withSeriesId(saved.getId()));
+            TransactionHooks.afterCompletion(committed -> {
+                if (!committed) {
+                    unregisterLocked(saved.getId());
+                }
+            });
+            return saved;
+        } finally {
+            seriesLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋 후 반복 일정 규칙 교체 (회차 건너뛰기 등 회차가 줄어드는 변경)
+     */
+    public void replaceSeries(Recurrence recurrence) {
+        TransactionHooks.afterCommit(() -> {
+            seriesLock.writeLock().lock();
+            try {
+                unregister(recurrence.seriesId());
+                register(recurrence);
+            } finally {
+                seriesLock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 커밋 후 반복 일정 규칙과 회차 구간 제거
+     */
+    public void releaseSeries(Long seriesId) {
+        TransactionHooks.afterCommit(() -> unregisterLocked(seriesId));
+    }
+
+    /**
+     * 아직 올라오지 않은 날짜들을 한 번의 조회로 올림
+     * - 일괄 등록에서 저장 도중 날짜마다 로드 쿼리(와 그 전의 자동 flush)가 끼어들어 JDBC 배치가 끊기지 않도록 미리 호출
+     * - 그 사이 다른 요청이 먼저 올린 날짜는 그대로 둠 (이미 올라온 날짜에는 예약 중인 구간이 있을 수 있음)
+     */
+    public void preload(Collection<LocalDate> dates) {
+        List<LocalDate> missing = dates.stream()
+                .distinct()
+                .filter(date -> !days.containsKey(date))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        // 반복 일정 등록과 겹치면 새 회차가 빠진 채로 날짜가 올라갈 수 있으므로 읽기 잠금 안에서 로드
+        seriesLock.readLock().lock();
+        try {
+            Map<LocalDate, DayIntervals> loaded = new HashMap<>();
+            for (LocalDate date : missing) {
+                loaded.put(date, newDay(date));
+            }
+            for (ScheduleIntervalView interval : scheduleRepository.findIntervalsByScheduleDateIn(missing)) {
+                loaded.get(interval.getScheduleDate()).put(new Slot(interval.getId(),
+                        toSecond(interval.getStartTime()), toSecond(interval.getEndTime())));
+            }
+            loaded.forEach(days::putIfAbsent);
+            evictIfFull();
+        } finally {
+            seriesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋 후 해당 날짜에서 일정 구간 제거 (삭제 또는 다른 날짜로 이동 시)
+     */
+    public void release(LocalDate date, Long scheduleId) {
+        TransactionHooks.afterCommit(() -> {
+            DayIntervals day = days.get(date);
+            if (day == null) {
+                return;
+            }
+            day.lock.lock();
+            try {
+                day.remove(scheduleId);
+            } finally {
+                day.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 날짜 잠금 안에서 조회 (잡는 사이 날짜가 내려갔으면 다시 올려 실행)
+     */
+    private <T> T withDay(LocalDate date, Function<DayIntervals, T> reader) {
+        DayIntervals day = lockDay(date);
+        try {
+            return reader.apply(day);
+        } finally {
+            day.lock.unlock();
+        }
+    }
+
+    /**
+     * 내려가지 않은 날짜 구간을 잠가서 반환 (호출한 쪽에서 잠금 해제)
+     */
+    private DayIntervals lockDay(LocalDate date) {
+        while (true) {
+            DayIntervals day = day(date);
+            day.lock.lock();
+            if (!day.evicted) {
+                return day;
+            }
+            day.lock.unlock();
+        }
+    }
+
+    private DayIntervals day(LocalDate date) {
+        DayIntervals day = days.get(date);
+        if (day != null) {
+            day.lastAccess = System.nanoTime();
+            return day;
+        }
+        // 반복 일정 등록과 겹치면 새 회차가 빠진 채로 날짜가 올라갈 수 있으므로 읽기 잠금 안에서 로드
+        seriesLock.readLock().lock();
+        try {
+            return loadOnce(date);
+        } finally {
+            seriesLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 날짜를 한 번만 로드 (읽기 잠금 안에서 호출)
+     * - 조회 쿼리는 맵의 compute 밖에서 실행해, 같은 버킷의 다른 날짜가 JDBC 조회 동안 막히지 않도록 함
+     * - 같은 날짜를 동시에 요청한 쪽은 먼저 시작한 로드의 결과를 기다림
+     */
+    private DayIntervals loadOnce(LocalDate date) {
+        CompletableFuture<DayIntervals> created = new CompletableFuture<>();
+        CompletableFuture<DayIntervals> inFlight = loading.putIfAbsent(date, created);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            // 앞선 로드가 끝나 loading에서 빠진 뒤라면 이미 올라와 있음
+            DayIntervals day = days.get(date);
+            if (day == null) {
+                DayIntervals loaded = load(date);
+                day = days.putIfAbsent(date, loaded);
+                if (day == null) {
+                    day = loaded;
+                    evictIfFull();
+                }
+            }
+            created.complete(day);
+            return day;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(date, created);
+        }
+    }
+
+    /**
+     * 올라온 날짜가 maxDays를 넘으면 가장 오래 쓰지 않은 날짜부터 4분의 1을 내림 (읽기 잠금 안에서 호출)
+     * - 반복 일정 등록(쓰기 잠금)과 겹치지 않으므로 내린 날짜에 회차가 반영되지 않는 일은 없음
+     * - 커밋 전 예약이 있거나 사용 중인 날짜는 건너뜀
+     */
+    private void evictIfFull() {
+        if (days.size() <= maxDays || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxDays - maxDays / 4;
+            // 정렬 중에 사용 시각이 바뀌지 않도록 먼저 복사
+            List<LoadedDay> oldest = days.entrySet().stream()
+                    .map(entry -> new LoadedDay(entry.getKey(), entry.getValue(), entry.getValue().lastAccess))
+                    .sorted(Comparator.comparingLong(LoadedDay::lastAccess))
+                    .limit(Math.max(days.size() - target, 0))
+                    .toList();
+            for (LoadedDay loaded : oldest) {
+                DayIntervals day = loaded.day();
+                // 일괄 예약처럼 이 스레드가 잡고 있는 날짜는 재진입으로 잠기므로 따로 건너뜀
+                if (day.lock.isHeldByCurrentThread() || !day.lock.tryLock()) {
+                    continue;
+                }
+                try {
+                    if (day.pendingBookings == 0) {
+                        day.evicted = true;
+                        days.remove(loaded.date(), day);
+                    }
+                } finally {
+                    day.lock.unlock();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 메모리에 올라온 날짜 수 (테스트용)
+     */
+    int loadedDays() {
+        return days.size();
+    }
+
+    private DayIntervals load(LocalDate date) {
+        DayIntervals day = newDay(date);
+        for (Schedule schedule : scheduleRepository.findByScheduleDateOrderByStartTimeAsc(date)) {
+            day.put(new Slot(schedule.getId(), toSecond(schedule.getStartTime()), toSecond(schedule.getEndTime())));
+        }
+        return day;
+    }
+
+    /**
+     * 반복 일정 회차만 채운 날짜 구간 (읽기 잠금 안에서 호출)
+     */
+    private DayIntervals newDay(LocalDate date) {
+        DayIntervals day = new DayIntervals();
+        for (Recurrence recurrence : series().values()) {
+            if (recurrence.occursOn(date)) {
+                day.put(seriesSlot(recurrence));
+            }
+        }
+        return day;
+    }
+
+    /**
+     * 반복 일정 규칙 (처음 호출 시 DB에서 로드)
+     * - 로드 쿼리 동안 모니터를 잡아 가상 스레드가 캐리어에 고정되지 않도록 ReentrantLock 사용
+     */
+    private Map<Long, Recurrence> series() {
+        Map<Long, Recurrence> loaded = series;
+        if (loaded != null) {
+            return loaded;
+        }
+        seriesLoadLock.lock();
+        try {
+            loaded = series;
+            if (loaded == null) {
+                Map<Long, Recurrence> rules = new HashMap<>();
+                for (ScheduleSeries entity : seriesRepository.findAllWithExceptions()) {
+                    rules.put(entity.getId(), Recurrence.of(entity));
+                }
+                loaded = Map.copyOf(rules);
+                series = loaded;
+            }
+            return loaded;
+        } finally {
+            seriesLoadLock.unlock();
+        }
+    }
+
+    private Optional<LocalDate> findScheduleConflict(Recurrence candidate) {
+        int start = toSecond(candidate.startTime());
+        int end = toSecond(candidate.endTime());
+        for (Map.Entry<LocalDate, DayIntervals> entry : days.entrySet()) {
+            if (!candidate.occursOn(entry.getKey())) {
+                continue;
+            }
+            DayIntervals day = entry.getValue();
+            day.lock.lock();
+            try {
+                if (day.overlaps(start, end, null)) {
+                    return Optional.of(entry.getKey());
+                }
+            } finally {
+                day.lock.unlock();
+            }
+        }
+        // 아직 올라오지 않은 날짜는 커밋된 일정만 있으므로 DB 결과로 판단
+        return scheduleRepository.findSlotsOverlappingTimeFrom(candidate.startDate(),
+                        candidate.startTime(), candidate.endTime()).stream()
+                .map(ScheduleSlotView::getScheduleDate)
+                .filter(date -> !days.containsKey(date) && candidate.occursOn(date))
+                .min(Comparator.naturalOrder());
+    }
+
+    /**
+     * 규칙 추가 후 올라와 있는 날짜에 회차 구간 반영 (쓰기 잠금 안에서 호출)
+     */
+    private void register(Recurrence recurrence) {
+        Map<Long, Recurrence> rules = new HashMap<>(series());
+        rules.put(recurrence.seriesId(), recurrence);
+        series = Map.copyOf(rules);
+        days.forEach((date, day) -> {
+            if (recurrence.occursOn(date)) {
+                day.lock.lock();
+                try {
+                    day.put(seriesSlot(recurrence));
+                } finally {
+                    day.lock.unlock();
+                }
+            }
+        });
+    }
+
+    private void unregisterLocked(Long seriesId) {
+        seriesLock.writeLock().lock();
+        try {
+            unregister(seriesId);
+        } finally {
+            seriesLock.writeLock().unlock();
+        }
+    }
+
+    private void unregister(Long seriesId) {
+        Map<Long, Recurrence> rules = new HashMap<>(series());
+        if (rules.remove(seriesId) == null) {
+            return;
+        }
+        series = Map.copyOf(rules);
+        Long slotId = -seriesId;
+        days.values().forEach(day -> {
+            day.lock.lock();
+            try {
+                day.remove(slotId);
+            } finally {
+                day.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 반복 일정 회차 구간 (단건 일정 ID와 겹치지 않도록 음수 ID 사용)
+     */
+    private static Slot seriesSlot(Recurrence recurrence) {
+        return new Slot(-recurrence.seriesId(), toSecond(recurrence.startTime()), toSecond(recurrence.endTime()));
+    }
+
+    private static String seriesOverlapMessage(LocalDate date) {
+        return OVERLAP_MESSAGE + " (" + date + ")";
+    }
+
+    private static int toSecond(LocalTime time) {
+        return time.toSecondOfDay();
+    }
+
+    private record Slot(Long id, int start, int end) {
+    }
+
+    private record LoadedDay(LocalDate date, DayIntervals day, long lastAccess) {
+    }
+
+    /**
+     * 하루치 구간 집합
+     * - 시작 시간(동률이면 ID) 순으로 정렬
+     * - 가장 긴 구간 길이를 기록해 겹침 탐색 범위를 제한 (기존 데이터에 겹침이 있어도 정확)
+     */
+    private static final class DayIntervals {
+
+        static final int END_OF_DAY = 24 * 60 * 60;
+
+        private static final Comparator<Slot> ORDER = Comparator
+                .comparingInt(Slot::start)
+                .thenComparingLong(slot -> slot.id() == null ? Long.MIN_VALUE : slot.id());
+
+        final ReentrantLock lock = new ReentrantLock();
+
+        // 최근 사용 시각 (내릴 날짜 선택용)
+        volatile long lastAccess = System.nanoTime();
+        // 아래 두 필드는 lock 안에서만 읽고 씀
+        int pendingBookings;
+        boolean evicted;
+
+        private final NavigableSet<Slot> slots = new TreeSet<>(ORDER);
+        private final Map<Long, Slot> byId = new HashMap<>();
+        private int maxLength;
+
+        Slot put(Slot slot) {
+            Slot previous = remove(slot.id());
+            slots.add(slot);
+            byId.put(slot.id(), slot);
+            maxLength = Math.max(maxLength, slot.end() - slot.start());
+            return previous;
+        }
+
+        Slot remove(Long id) {
+            Slot removed = byId.remove(id);
+            if (removed != null) {
+                slots.remove(removed);
+            }
+            return removed;
+        }
+
+        boolean overlaps(int start, int end, Long excludeId) {
+            // end 이전에 시작하는 구간만 후보이며, start - maxLength 이전에 시작한 구간은 start까지 닿을 수 없다
+            Iterator<Slot> candidates = slots.headSet(new Slot(Long.MIN_VALUE, end, 0), false)
+                    .descendingIterator();
+            while (candidates.hasNext()) {
+                Slot slot = candidates.next();
+                if (slot.start() < start - maxLength) {
+                    return false;
+                }
+                if (slot.end() > start && !slot.id().equals(excludeId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int firstFree(int from, int length, int limit) {
+            int cursor = from;
+            // from 이전에 시작해 from 이후까지 이어지는 구간 반영
+            for (Slot slot : slots.headSet(new Slot(Long.MIN_VALUE, from, 0), false)
+                    .tailSet(new Slot(Long.MIN_VALUE, from - maxLength, 0), true)) {
+                cursor = Math.max(cursor, slot.end());
+            }
+            for (Slot slot : slots.tailSet(new Slot(Long.MIN_VALUE, from, 0), true)) {
+                if (slot.start() >= cursor + length) {
+                    break;
+                }
+                cursor = Math.max(cursor, slot.end());
+            }
+            return cursor + length <= limit ? cursor : -1;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.event.ScheduleChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 월별 일정 조회 결과 캐시
+ *
+ * YearMonth 단위로 변경 불가능한 일정 목록을 보관하며, 최대 개수와 TTL로 제거된다.
+ * 일정 변경 이벤트(ScheduleChangedEvent)가 커밋되면 해당 월만 무효화한다.
+ * 같은 월을 동시에 조회하면 한 번만 로드되고, 로드 중 그 월이 무효화되면 로드가 끝난 뒤 제거된다.
+ * 무효화 여부는 월별 스탬프로 판단하므로 다른 월의 쓰기는 로드 결과에 영향을 주지 않는다.
+ * 반복 일정 변경처럼 모든 월에 영향이 있으면 전체를 비우며, 그 사이 로드된 결과는 보관하지 않는다.
+ */
+@Component
+public class ScheduleMonthCache {
+
+    private final Cache<YearMonth, List<ScheduleResponseDto>> cache;
+    private final List<Consumer<YearMonth>> evictionListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> clearListeners = new CopyOnWriteArrayList<>();
+    // 전체 무효화 횟수와 월별 무효화 횟수 (로드 전후 값이 다르면 로드 결과를 보관하지 않음)
+    private final AtomicLong clearGeneration = new AtomicLong();
+    private final ConcurrentMap<YearMonth, Long> monthStamps = new ConcurrentHashMap<>();
+
+    public ScheduleMonthCache(
+            @Value("${schedule.cache.month.maximum-size:120}") long maximumSize,
+            @Value("${schedule.cache.month.ttl:10m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 월별 일정 조회, 없으면 loader로 로드 후 보관
+     */
+    public List<ScheduleResponseDto> get(YearMonth month, Supplier<List<ScheduleResponseDto>> loader) {
+        long loadedGeneration = clearGeneration.get();
+        long loadedStamp = stamp(month);
+        List<ScheduleResponseDto> schedules = cache.get(month, key -> List.copyOf(loader.get()));
+        if (loadedGeneration != clearGeneration.get() || loadedStamp != stamp(month)) {
+            cache.asMap().remove(month, schedules);
+        }
+        return schedules;
+    }
+
+    /**
+     * 여러 월을 한 번에 조회, 캐시에 없는 월만 모아 loader로 한 번에 로드 후 보관
+     */
+    public Map<YearMonth, List<ScheduleResponseDto>> getAll(
+            Collection<YearMonth> months,
+            Function<Set<? extends YearMonth>, Map<YearMonth, List<ScheduleResponseDto>>> loader
+    ) {
+        long loadedGeneration = clearGeneration.get();
+        Map<YearMonth, Long> loadedStamps = new HashMap<>();
+        months.forEach(month -> loadedStamps.put(month, stamp(month)));
+        Map<YearMonth, List<ScheduleResponseDto>> schedules = cache.getAll(months, loader);
+        boolean cleared = loadedGeneration != clearGeneration.get();
+        // 로드 중 무효화된 월만 제거 (값이 같을 때만 제거하므로 그 뒤 다시 로드된 값은 유지)
+        schedules.forEach((month, monthSchedules) -> {
+            if (cleared || loadedStamps.get(month) != stamp(month)) {
+                cache.asMap().remove(month, monthSchedules);
+            }
+        });
+        return schedules;
+    }
+
+    /**
+     * 캐시에 있는지 (조회 통계에 집계하지 않음)
+     */
+    public boolean contains(YearMonth month) {
+        return cache.asMap().containsKey(month);
+    }
+
+    /**
+     * 일정 변경이 커밋되면 영향받은 월만 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.affectsAllDates()) {
+            evictAll();
+            return;
+        }
+        event.months().forEach(this::evict);
+    }
+
+    /**
+     * 월 캐시와 등록된 파생 캐시 무효화
+     */
+    public void evict(YearMonth month) {
+        monthStamps.merge(month, 1L, Long::sum);
+        cache.invalidate(month);
+        evictionListeners.forEach(listener -> listener.accept(month));
+    }
+
+    /**
+     * 월 캐시와 등록된 파생 캐시 전체 무효화
+     */
+    public void evictAll() {
+        clearGeneration.incrementAndGet();
+        cache.invalidateAll();
+        clearListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * 쓰기로 월이 무효화될 때 함께 비울 파생 캐시 등록
+     */
+    public void addEvictionListener(Consumer<YearMonth> listener) {
+        evictionListeners.add(listener);
+    }
+
+    /**
+     * 전체 무효화 시 함께 비울 파생 캐시 등록
+     */
+    public void addClearListener(Runnable listener) {
+        clearListeners.add(listener);
+    }
+
+    private long stamp(YearMonth month) {
+        return monthStamps.getOrDefault(month, 0L);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이전/다음 달 미리 읽기
+ *
+ * 달력에서 한 달을 보여줄 때 이웃한 두 달이 월 캐시에 없으면 백그라운드에서 미리 로드해,
+ * 이전/다음 이동이 캐시 조회로 끝나도록 한다.
+ * 요청 스레드는 기다리지 않으며, 대기열이 차거나 같은 월이 이미 대기 중이면 건너뛴다.
+ */
+@Component
+@Slf4j
+public class ScheduleMonthPrefetcher {
+
+    private final ScheduleService scheduleService;
+    private final ScheduleMonthCache monthCache;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+    private final Set<YearMonth> queued = ConcurrentHashMap.newKeySet();
+
+    public ScheduleMonthPrefetcher(
+            ScheduleService scheduleService,
+            ScheduleMonthCache monthCache,
+            @Value("${schedule.prefetch.enabled:true}") boolean enabled,
+            @Value("${schedule.prefetch.queue-capacity:16}") int queueCapacity
+    ) {
+        this.scheduleService = scheduleService;
+        this.monthCache = monthCache;
+        this.enabled = enabled;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "schedule-month-prefetch");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * month의 이전/다음 달 중 캐시에 없는 달을 미리 로드 (캐시된 month 자체는 다시 조회하지 않음)
+     */
+    public void prefetchAround(YearMonth month) {
+        if (!enabled) {
+            return;
+        }
+        List<YearMonth> missing = Stream.of(month.minusMonths(1), month.plusMonths(1))
+                .filter(neighbour -> !monthCache.contains(neighbour))
+                .filter(queued::add)
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    scheduleService.getSchedulesByMonths(missing.get(0), missing.get(missing.size() - 1));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to prefetch schedules for {}: {}", missing, e.getMessage());
+                } finally {
+                    missing.forEach(queued::remove);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            missing.forEach(queued::remove);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.event.ScheduleChangedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 일별 일정 조회의 동시 요청 병합
+ *
+ * 같은 날짜를 여러 사용자가 동시에 열면 한 요청만 조회하고 나머지는 그 결과를 받는다.
+ * 월별 조회는 월 캐시(Caffeine)가 같은 월의 로드를 한 번만 실행하므로 여기서 다시 병합하지 않는다.
+ * 일정 변경이 커밋되면 영향받은 날짜의 실행 중인 조회를 떼어 내, 커밋 뒤에 들어온 요청이
+ * 커밋 전에 시작된 조회 결과를 받지 않도록 한다.
+ * 병합 효과는 app.schedule.coalesced.calls{result=shared}로 확인한다 (shared 한 건이 DB 조회 한 번 절약).
+ */
+@Component
+public class ScheduleReadCoalescer {
+
+    private final SingleFlight<LocalDate, List<ScheduleResponseDto>> days;
+
+    public ScheduleReadCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${schedule.read.coalesce.max-wait:5s}") Duration maxWait
+    ) {
+        this.days = new SingleFlight<>("day", meterRegistry, maxWait);
+    }
+
+    /**
+     * 결과 목록은 여러 요청이 함께 받으므로 변경 불가능한 목록으로 반환
+     */
+    public List<ScheduleResponseDto> day(LocalDate date, Supplier<List<ScheduleResponseDto>> loader) {
+        return days.execute(date, () -> List.copyOf(loader.get()));
+    }
+
+    /**
+     * 월 캐시 무효화와 같은 시점에 실행 중인 조회를 떼어 냄
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.affectsAllDates()) {
+            days.forgetAll();
+            return;
+        }
+        event.dates().forEach(days::forget);
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.dto.ScheduleSeriesDto;
+import com.example.demo.entity.ScheduleSeries;
+import com.example.demo.event.ScheduleChangedEvent;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.ScheduleSeriesRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 반복 일정 등록/삭제와 회차 펼치기
+ *
+ * 회차는 저장하지 않고 조회한 월의 회차만 펼쳐 월 단위로 캐시한다.
+ * 반복 일정이 바뀌면 커밋 후 펼친 결과를 모두 비우며, 그 사이 펼친 결과는 보관하지 않는다.
+ */
+@Service
+@Slf4j
+public class ScheduleSeriesService {
+
+    private static final Comparator<ScheduleResponseDto> BY_DATE_AND_TIME = Comparator
+            .comparing(ScheduleResponseDto::getScheduleDate)
+            .thenComparing(ScheduleResponseDto::getStartTime);
+
+    private final ScheduleSeriesRepository seriesRepository;
+    private final ScheduleIntervalIndex intervalIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<YearMonth, List<ScheduleResponseDto>> expansions;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ScheduleSeriesService(
+            ScheduleSeriesRepository seriesRepository,
+            ScheduleIntervalIndex intervalIndex,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${schedule.series.expansion-cache.maximum-size:120}") long maximumSize
+    ) {
+        this.seriesRepository = seriesRepository;
+        this.intervalIndex = intervalIndex;
+        this.eventPublisher = eventPublisher;
+        this.expansions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 반복 일정 등록 (종료일과 횟수가 모두 없으면 무기한)
+     */
+    @Transactional
+    public ScheduleSeriesDto createSeries(ScheduleRequestDto requestDto) {
+        log.info("Creating schedule series for team: {}", requestDto.getTeamName());
+
+        // 시간/반복 종료일 관계는 요청 DTO 검증(@ValidScheduleTimes)에서 확인
+        ScheduleSeries series = ScheduleSeries.builder()
+                .teamName(requestDto.getTeamName())
+                .teamMembers(requestDto.getTeamMembers())
+                .startDate(requestDto.getScheduleDate())
+                .untilDate(Recurrence.lastOccurrence(requestDto.getScheduleDate(), requestDto.getRepeatUntil(),
+                        requestDto.getRepeatCount(), requestDto.getRepeatWeeks()))
+                .occurrenceCount(requestDto.getRepeatCount())
+                .intervalWeeks(requestDto.getRepeatWeeks())
+                .startTime(requestDto.getStartTime())
+                .endTime(requestDto.getEndTime())
+                .build();
+
+        ScheduleSeries saved = intervalIndex.bookSeries(Recurrence.of(series), () -> seriesRepository.save(series));
+        eventPublisher.publishEvent(ScheduleChangedEvent.seriesChanged(saved.getId()));
+        log.info("Schedule series created with ID: {}", saved.getId());
+
+        return ScheduleSeriesDto.fromEntity(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public ScheduleSeriesDto getSeriesById(Long id) {
+        return ScheduleSeriesDto.fromEntity(findSeries(id));
+    }
+
+    /**
+     * 한 회차만 건너뛰기 (나머지 회차는 유지)
+     */
+    @Transactional
+    public void skipOccurrence(Long id, LocalDate date) {
+        ScheduleSeries series = findSeries(id);
+        if (!Recurrence.of(series).occursOn(date)) {
+            throw new InvalidRequestException("반복 일정의 회차가 아닌 날짜입니다.");
+        }
+        series.getExceptions().add(date);
+        seriesRepository.save(series);
+        intervalIndex.replaceSeries(Recurrence.of(series));
+        eventPublisher.publishEvent(ScheduleChangedEvent.seriesChanged(id));
+        log.info("Skipped occurrence {} of schedule series {}", date, id);
+    }
+
+    @Transactional
+    public void deleteSeries(Long id) {
+        ScheduleSeries series = findSeries(id);
+        seriesRepository.delete(series);
+        intervalIndex.releaseSeries(id);
+        eventPublisher.publishEvent(ScheduleChangedEvent.seriesChanged(id));
+        log.info("Schedule series deleted with ID: {}", id);
+    }
+
+    /**
+     * 해당 월의 회차 (날짜, 시작 시간 순)
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> getOccurrences(YearMonth month) {
+        long loadedGeneration = generation.get();
+        List<ScheduleResponseDto> occurrences = expansions.get(month, this::expand);
+        if (loadedGeneration != generation.get()) {
+            expansions.asMap().remove(month, occurrences);
+        }
+        return occurrences;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> getOccurrences(LocalDate date) {
+        return getOccurrences(YearMonth.from(date)).stream()
+                .filter(occurrence -> occurrence.getScheduleDate().equals(date))
+                .toList();
+    }
+
+    /**
+     * [from, to] 기간의 회차 (월 단위로 펼친 결과를 이어 붙임)
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> getOccurrencesBetween(LocalDate from, LocalDate to) {
+        List<ScheduleResponseDto> occurrences = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            for (ScheduleResponseDto occurrence : getOccurrences(month)) {
+                if (!occurrence.getScheduleDate().isBefore(from) && !occurrence.getScheduleDate().isAfter(to)) {
+                    occurrences.add(occurrence);
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * 일정 목록과 회차를 합쳐 날짜, 시작 시간 순으로 정렬
+     */
+    public static List<ScheduleResponseDto> merge(List<ScheduleResponseDto> schedules,
+                                                  List<ScheduleResponseDto> occurrences) {
+        if (occurrences.isEmpty()) {
+            return schedules;
+        }
+        List<ScheduleResponseDto> merged = new ArrayList<>(schedules.size() + occurrences.size());
+        merged.addAll(schedules);
+        merged.addAll(occurrences);
+        merged.sort(BY_DATE_AND_TIME);
+        return merged;
+    }
+
+    /**
+     * 반복 일정이 바뀌면 펼친 회차 전체 무효화 (월 캐시보다 먼저 비워야 다시 채워지는 월 캐시에 이전 회차가 들어가지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(-1)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.affectsAllDates()) {
+            generation.incrementAndGet();
+            expansions.invalidateAll();
+        }
+    }
+
+    private List<ScheduleResponseDto> expand(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+        List<ScheduleResponseDto> occurrences = new ArrayList<>();
+        for (ScheduleSeries series : seriesRepository.findActiveBetween(from, to)) {
+            for (LocalDate date : Recurrence.of(series).occurrencesBetween(from, to)) {
+                occurrences.add(ScheduleResponseDto.occurrenceOf(series, date));
+            }
+        }
+        occurrences.sort(BY_DATE_AND_TIME);
+        return List.copyOf(occurrences);
+    }
+
+    private ScheduleSeries findSeries(Long id) {
+        return seriesRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Schedule series not found with id: " + id));
+    }
+}
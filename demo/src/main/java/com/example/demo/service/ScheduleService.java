@@ -1,9 +1,15 @@
 package com.example.demo.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.example.demo.dto.CalendarMonthDto;
 import com.example.demo.dto.ScheduleRequestDto;
 import com.example.demo.dto.ScheduleResponseDto;
 
@@ -29,6 +35,16 @@ public interface ScheduleService {
      */
     List<ScheduleResponseDto> getSchedulesByMonth(int year, int month);
 
+    /**
+     * [from, to] 여러 월의 일정 조회 (캐시에 없는 월은 기간 조회 한 번으로 로드)
+     */
+    Map<YearMonth, List<ScheduleResponseDto>> getSchedulesByMonths(YearMonth from, YearMonth to);
+
+    /**
+     * 달력 화면용 월 데이터 조회 (날짜별 일정 묶음)
+     */
+    CalendarMonthDto getCalendarMonth(int year, int month, LocalDate today);
+
     /**
      * 특정 날짜의 일정 조회
      */
@@ -45,12 +61,28 @@ public interface ScheduleService {
     void deleteSchedule(Long id);
 
     /**
-     * 일정 충돌 확인
+     * 일정 충돌 확인 (excludeId가 있으면 해당 일정은 제외)
      */
-    boolean hasOverlappingSchedule(LocalDate date, LocalTime startTime, LocalTime endTime);
+    boolean hasOverlappingSchedule(LocalDate date, LocalTime startTime, LocalTime endTime, Long excludeId);
+
+    /**
+     * 특정 날짜의 [from, to) 범위에서 duration 만큼 비어 있는 첫 시작 시간 조회
+     */
+    Optional<LocalTime> findFirstAvailableTime(LocalDate date, LocalTime from, LocalTime to, Duration duration);
 
     /**
      * 일별 상세 일정 조회 (시간대별)
      */
     List<ScheduleResponseDto> getDailyDetailSchedules(LocalDate date);
+
+    /**
+     * 기간별 일정 스트리밍 조회 (팀 이름 지정 시 해당 팀만)
+     * - 전체 목록을 메모리에 만들지 않고 한 건씩 consumer로 전달
+     */
+    void streamSchedules(LocalDate startDate, LocalDate endDate, String teamName, Consumer<ScheduleResponseDto> consumer);
+
+    /**
+     * 팀원별 기간 일정 조회
+     */
+    List<ScheduleResponseDto> getMemberAgenda(Long memberId, LocalDate startDate, LocalDate endDate);
 }
@@ -1,18 +1,33 @@
 package com.example.demo.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.CalendarMonthDto;
 import com.example.demo.dto.ScheduleRequestDto;
 import com.example.demo.dto.ScheduleResponseDto;
 import com.example.demo.entity.Schedule;
+import com.example.demo.event.ScheduleChangedEvent;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.UpdateConflictException;
 import com.example.demo.repository.ScheduleRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -25,16 +40,19 @@ import lombok.extern.slf4j.Slf4j;
 public class ScheduleServiceImpl implements ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleIntervalIndex intervalIndex;
+    private final ScheduleMonthCache monthCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeamService teamService;
+    private final OptimisticRetry optimisticRetry;
+    private final ScheduleSeriesService seriesService;
+    private final ScheduleReadCoalescer readCoalescer;
 
     @Override
     public ScheduleResponseDto createSchedule(ScheduleRequestDto requestDto) {
         log.info("Creating schedule for team: {}", requestDto.getTeamName());
 
-        // 시간 검증
-        if (!requestDto.getEndTime().isAfter(requestDto.getStartTime())) {
-            throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다.");
-        }
-
+        // 시간 검증은 요청 DTO 검증(@ValidScheduleTimes)에서 한 번만 수행
         Schedule schedule = Schedule.builder()
                 .teamName(requestDto.getTeamName())
                 .teamMembers(requestDto.getTeamMembers())
@@ -42,78 +60,124 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .startTime(requestDto.getStartTime())
                 .endTime(requestDto.getEndTime())
                 .build();
+        teamService.assign(List.of(schedule));
 
-        Schedule savedSchedule = scheduleRepository.save(schedule);
+        Schedule savedSchedule = intervalIndex.book(schedule.getScheduleDate(), schedule.getStartTime(),
+                schedule.getEndTime(), null, () -> scheduleRepository.save(schedule));
+        ScheduleResponseDto created = ScheduleResponseDto.fromEntity(savedSchedule);
+        eventPublisher.publishEvent(ScheduleChangedEvent.created(created));
         log.info("Schedule created with ID: {}", savedSchedule.getId());
 
-        return ScheduleResponseDto.fromEntity(savedSchedule);
+        return created;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ScheduleResponseDto getScheduleById(Long id) {
         log.info("Fetching schedule with ID: {}", id);
-        Schedule schedule = scheduleRepository.findById(id)
+        // ID 조회는 2차 캐시(l2cache 프로필)를 거치도록 엔티티로 조회 (읽기 전용 트랜잭션이라 스냅샷은 남지 않음)
+        return scheduleRepository.findById(id)
+                .map(ScheduleResponseDto::fromEntity)
                 .orElseThrow(() -> new ResourceNotFoundException("Schedule not found with id: " + id));
-        return ScheduleResponseDto.fromEntity(schedule);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ScheduleResponseDto> getAllSchedules() {
         log.info("Fetching all schedules");
-        return scheduleRepository.findAll().stream()
-                .map(ScheduleResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return scheduleRepository.findAllResponses();
     }
 
+    /**
+     * 같은 월의 동시 조회는 월 캐시가 한 번만 로드하며, 결과를 기다리는 요청이 커넥션을 잡지 않도록
+     * 트랜잭션을 시작하지 않음 (각 조회는 리포지토리의 읽기 전용 트랜잭션에서 실행)
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ScheduleResponseDto> getSchedulesByMonth(int year, int month) {
         log.info("Fetching schedules for {}-{}", year, month);
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        return scheduleRepository
-                .findByScheduleDateBetweenOrderByScheduleDateAscStartTimeAsc(startDate, endDate)
-                .stream()
-                .map(ScheduleResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        // 단건 일정과 반복 일정 회차(해당 월만 펼침)를 합쳐 캐시 (같은 월의 동시 로드는 캐시가 한 번만 실행)
+        return monthCache.get(yearMonth, () -> ScheduleSeriesService.merge(
+                scheduleRepository.findResponsesBetween(startDate, endDate), seriesService.getOccurrences(yearMonth)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<YearMonth, List<ScheduleResponseDto>> getSchedulesByMonths(YearMonth from, YearMonth to) {
+        log.info("Fetching schedules for {} ~ {}", from, to);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+
+        Map<YearMonth, List<ScheduleResponseDto>> cached = monthCache.getAll(months, this::loadMonths);
+        Map<YearMonth, List<ScheduleResponseDto>> schedules = new LinkedHashMap<>();
+        months.forEach(month -> schedules.put(month, cached.get(month)));
+        return schedules;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public CalendarMonthDto getCalendarMonth(int year, int month, LocalDate today) {
+        return CalendarMonthDto.of(YearMonth.of(year, month), getSchedulesByMonth(year, month), today);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ScheduleResponseDto> getSchedulesByDate(LocalDate date) {
         log.info("Fetching schedules for date: {}", date);
-        return scheduleRepository.findByScheduleDateOrderByStartTimeAsc(date)
-                .stream()
-                .map(ScheduleResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return ScheduleSeriesService.merge(scheduleRepository.findResponsesByDate(date),
+                seriesService.getOccurrences(date));
     }
 
+    /**
+     * 충돌(@Version) 시 새 트랜잭션에서 다시 읽어 재시도하므로 메서드 자체는 트랜잭션 밖에서 실행
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ScheduleResponseDto updateSchedule(Long id, ScheduleRequestDto requestDto) {
         log.info("Updating schedule with ID: {}", id);
+        // 기준 버전을 보낸 수정은 다시 읽어도 충돌이므로 재시도하지 않음
+        return optimisticRetry.execute(() -> applyUpdate(id, requestDto), requestDto.getVersion() == null);
+    }
 
+    private ScheduleResponseDto applyUpdate(Long id, ScheduleRequestDto requestDto) {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Schedule not found with id: " + id));
 
-        // 시간 검증
-        if (!requestDto.getEndTime().isAfter(requestDto.getStartTime())) {
-            throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다.");
+        // 폼을 연 뒤 다른 사용자가 수정했으면, 같은 내용으로 저장하는 경우가 아니면 충돌
+        if (requestDto.getVersion() != null && !requestDto.getVersion().equals(schedule.getVersion())) {
+            if (hasSameContent(schedule, requestDto)) {
+                return ScheduleResponseDto.fromEntity(schedule);
+            }
+            throw new UpdateConflictException(OptimisticRetry.CONFLICT_MESSAGE);
         }
 
-        schedule.setTeamName(requestDto.getTeamName());
-        schedule.setTeamMembers(requestDto.getTeamMembers());
-        schedule.setScheduleDate(requestDto.getScheduleDate());
-        schedule.setStartTime(requestDto.getStartTime());
-        schedule.setEndTime(requestDto.getEndTime());
+        ScheduleResponseDto previous = ScheduleResponseDto.fromEntity(schedule);
+        LocalDate previousDate = previous.getScheduleDate();
 
-        Schedule updatedSchedule = scheduleRepository.save(schedule);
+        Schedule updatedSchedule = intervalIndex.book(requestDto.getScheduleDate(), requestDto.getStartTime(),
+                requestDto.getEndTime(), id, () -> {
+                    schedule.setTeamName(requestDto.getTeamName());
+                    schedule.setTeamMembers(requestDto.getTeamMembers());
+                    schedule.setScheduleDate(requestDto.getScheduleDate());
+                    schedule.setStartTime(requestDto.getStartTime());
+                    schedule.setEndTime(requestDto.getEndTime());
+                    teamService.assign(List.of(schedule));
+                    return scheduleRepository.save(schedule);
+                });
+        if (!previousDate.equals(updatedSchedule.getScheduleDate())) {
+            intervalIndex.release(previousDate, id);
+        }
+        ScheduleResponseDto updated = ScheduleResponseDto.fromEntity(updatedSchedule);
+        eventPublisher.publishEvent(ScheduleChangedEvent.updated(previous, updated));
         log.info("Schedule updated with ID: {}", updatedSchedule.getId());
 
-        return ScheduleResponseDto.fromEntity(updatedSchedule);
+        return updated;
     }
 
     @Override
@@ -122,23 +186,101 @@ public class ScheduleServiceImpl implements ScheduleService {
         Schedule schedule = scheduleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Schedule not found with id: " + id));
         scheduleRepository.delete(schedule);
+        intervalIndex.release(schedule.getScheduleDate(), id);
+        eventPublisher.publishEvent(ScheduleChangedEvent.deleted(ScheduleResponseDto.fromEntity(schedule)));
         log.info("Schedule deleted with ID: {}", id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public boolean hasOverlappingSchedule(LocalDate date, LocalTime startTime, LocalTime endTime) {
-        List<Schedule> overlapping = scheduleRepository.findOverlappingSchedules(date, startTime, endTime);
-        return !overlapping.isEmpty();
+    public boolean hasOverlappingSchedule(LocalDate date, LocalTime startTime, LocalTime endTime, Long excludeId) {
+        return intervalIndex.overlaps(date, startTime, endTime, excludeId);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public Optional<LocalTime> findFirstAvailableTime(LocalDate date, LocalTime from, LocalTime to, Duration duration) {
+        return intervalIndex.findFirstFreeSlot(date, from, to, duration);
+    }
+
+    /**
+     * 같은 날짜의 동시 조회는 한 번만 실행 (getSchedulesByMonth와 같이 트랜잭션 없이 대기)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ScheduleResponseDto> getDailyDetailSchedules(LocalDate date) {
         log.info("Fetching daily detail schedules for date: {}", date);
-        return scheduleRepository.findByScheduleDateOrderByStartTimeAsc(date)
-                .stream()
-                .map(ScheduleResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return readCoalescer.day(date, () -> ScheduleSeriesService.merge(scheduleRepository.findResponsesByDate(date),
+                seriesService.getOccurrences(date)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamSchedules(LocalDate startDate, LocalDate endDate, String teamName,
+                                Consumer<ScheduleResponseDto> consumer) {
+        log.info("Streaming schedules from {} to {} (team: {})", startDate, endDate, teamName);
+        Long teamId = null;
+        if (teamName != null && !teamName.isBlank()) {
+            Optional<Long> found = teamService.findTeamId(teamName);
+            if (found.isEmpty()) {
+                return;
+            }
+            teamId = found.get();
+        }
+
+        // DTO로 바로 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않음
+        try (Stream<ScheduleResponseDto> schedules = teamId == null
+                ? scheduleRepository.streamResponsesBetween(startDate, endDate)
+                : scheduleRepository.streamResponsesForTeamBetween(teamId, startDate, endDate)) {
+            schedules.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduleResponseDto> getMemberAgenda(Long memberId, LocalDate startDate, LocalDate endDate) {
+        if (!teamService.memberExists(memberId)) {
+            throw new ResourceNotFoundException("Member not found with id: " + memberId);
+        }
+        return scheduleRepository.findAgendaForMember(memberId, startDate, endDate);
+    }
+
+    /**
+     * 캐시에 없는 월들을 연속 구간별 기간 조회로 로드해 월별로 나눔
+     * - 이미 캐시된 월은 조회 범위에 넣지 않음 (예: 이전/다음 달만 없으면 두 달만 각각 조회)
+     */
+    private Map<YearMonth, List<ScheduleResponseDto>> loadMonths(Set<? extends YearMonth> months) {
+        Map<YearMonth, List<ScheduleResponseDto>> byMonth = new HashMap<>();
+        months.forEach(month -> byMonth.put(month, new ArrayList<>()));
+        List<YearMonth> sorted = new ArrayList<>(months);
+        Collections.sort(sorted);
+        int runStart = 0;
+        for (int i = 1; i <= sorted.size(); i++) {
+            if (i < sorted.size() && sorted.get(i).equals(sorted.get(i - 1).plusMonths(1))) {
+                continue;
+            }
+            LocalDate startDate = sorted.get(runStart).atDay(1);
+            LocalDate endDate = sorted.get(i - 1).atEndOfMonth();
+            for (ScheduleResponseDto schedule : scheduleRepository.findResponsesBetween(startDate, endDate)) {
+                List<ScheduleResponseDto> monthSchedules = byMonth.get(YearMonth.from(schedule.getScheduleDate()));
+                if (monthSchedules != null) {
+                    monthSchedules.add(schedule);
+                }
+            }
+            runStart = i;
+        }
+
+        Map<YearMonth, List<ScheduleResponseDto>> loaded = new HashMap<>();
+        byMonth.forEach((month, monthSchedules) -> loaded.put(month,
+                List.copyOf(ScheduleSeriesService.merge(monthSchedules, seriesService.getOccurrences(month)))));
+        return loaded;
+    }
+
+    private static boolean hasSameContent(Schedule schedule, ScheduleRequestDto requestDto) {
+        return Objects.equals(schedule.getTeamName(), requestDto.getTeamName())
+                && Objects.equals(schedule.getTeamMembers(), requestDto.getTeamMembers())
+                && Objects.equals(schedule.getScheduleDate(), requestDto.getScheduleDate())
+                && Objects.equals(schedule.getStartTime(), requestDto.getStartTime())
+                && Objects.equals(schedule.getEndTime(), requestDto.getEndTime());
     }
 }
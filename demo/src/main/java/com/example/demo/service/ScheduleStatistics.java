@@ -0,0 +1,273 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.dto.ScheduleStatisticsDto;
+import com.example.demo.event.ScheduleChangedEvent;
+import com.example.demo.repository.ScheduleRepository;
+import com.example.demo.repository.ScheduleStatView;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 월 단위 일정 통계 집계
+ *
+ * 월마다 일별 일정 수와 팀별 일정 수/예약 시간을 메모리에 유지하고,
+ * 등록/수정/삭제가 커밋되면 변경 전/후 값으로 증분 반영한다.
+ * 처음 조회하는 월만 날짜 범위 조건(인덱스 사용)으로 한 번 집계하며,
+ * 일괄 등록된 월은 다음 조회 때, 반복 일정이 바뀌면 모든 월을 다음 조회 때 다시 집계한다 (반복 일정 회차 포함).
+ *
+ * 집계 중에 커밋된 쓰기가 있으면(이미 반영된 행에 증분이 한 번 더 더해질 수 있으므로)
+ * 집계 결과를 보관하지 않고 그대로 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleStatistics {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleSeriesService seriesService;
+
+    private final ConcurrentMap<YearMonth, MonthAggregate> months = new ConcurrentHashMap<>();
+    private final ConcurrentMap<YearMonth, WriteState> writes = new ConcurrentHashMap<>();
+
+    public ScheduleStatisticsDto forMonth(YearMonth month) {
+        return summarize(month.atDay(1), month.atEndOfMonth(), List.of(aggregate(month)));
+    }
+
+    public ScheduleStatisticsDto forYear(Year year) {
+        List<MonthAggregate> aggregates = new ArrayList<>(12);
+        for (int month = 1; month <= 12; month++) {
+            aggregates.add(aggregate(year.atMonth(month)));
+        }
+        return summarize(year.atDay(1), year.atMonth(12).atEndOfMonth(), aggregates);
+    }
+
+    /**
+     * 커밋 직전에 진행 중인 쓰기로 표시하고, 완료 후 커밋된 경우에만 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        List<WriteState> states = event.months().stream().map(this::writeState).toList();
+        states.forEach(WriteState::begin);
+
+        TransactionHooks.afterCompletion(committed -> {
+            try {
+                if (committed) {
+                    apply(event);
+                }
+            } finally {
+                states.forEach(WriteState::end);
+            }
+        });
+    }
+
+    /**
+     * 반복 일정은 여러 달에 걸치므로 커밋 후 모든 월을 다음 조회 때 다시 집계 (진행 중인 집계는 보관하지 않음)
+     * - 펼친 회차 캐시가 비워진 뒤에 실행되어야 이전 회차로 다시 집계되지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onSeriesChanged(ScheduleChangedEvent event) {
+        if (event.affectsAllDates()) {
+            writes.values().forEach(state -> state.version.incrementAndGet());
+            months.clear();
+        }
+    }
+
+    private void apply(ScheduleChangedEvent event) {
+        if (event.affectsAllDates()) {
+            return;
+        }
+        if (event.type() == ScheduleChangedEvent.ChangeType.IMPORTED) {
+            event.months().forEach(months::remove);
+            return;
+        }
+        if (event.previous() != null) {
+            applyDelta(event.previous(), -1);
+        }
+        if (event.current() != null) {
+            applyDelta(event.current(), 1);
+        }
+    }
+
+    private void applyDelta(ScheduleResponseDto schedule, int sign) {
+        months.computeIfPresent(YearMonth.from(schedule.getScheduleDate()), (month, aggregate) -> aggregate.with(
+                schedule.getScheduleDate(), schedule.getTeamName(),
+                minutesBetween(schedule.getStartTime(), schedule.getEndTime()), sign));
+    }
+
+    private MonthAggregate aggregate(YearMonth month) {
+        MonthAggregate cached = months.get(month);
+        if (cached != null) {
+            return cached;
+        }
+
+        WriteState state = writeState(month);
+        long version = state.version.get();
+        boolean cacheable = state.pending.get() == 0;
+        MonthAggregate loaded = load(month);
+        if (!cacheable) {
+            return loaded;
+        }
+        MonthAggregate stored = months.compute(month, (key, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            return state.pending.get() == 0 && state.version.get() == version ? loaded : null;
+        });
+        return stored != null ? stored : loaded;
+    }
+
+    private MonthAggregate load(YearMonth month) {
+        int[] dayCounts = new int[month.lengthOfMonth()];
+        Map<String, TeamTotals> teams = new HashMap<>();
+        long bookedMinutes = 0;
+        for (ScheduleStatView row : scheduleRepository.findStatRowsBetween(month.atDay(1), month.atEndOfMonth())) {
+            long minutes = minutesBetween(row.getStartTime(), row.getEndTime());
+            dayCounts[row.getScheduleDate().getDayOfMonth() - 1]++;
+            teams.merge(row.getTeamName(), new TeamTotals(1, minutes),
+                    (previous, added) -> previous.plus(added.count(), added.minutes()));
+            bookedMinutes += minutes;
+        }
+        for (ScheduleResponseDto occurrence : seriesService.getOccurrences(month)) {
+            long minutes = minutesBetween(occurrence.getStartTime(), occurrence.getEndTime());
+            dayCounts[occurrence.getScheduleDate().getDayOfMonth() - 1]++;
+            teams.merge(occurrence.getTeamName(), new TeamTotals(1, minutes),
+                    (previous, added) -> previous.plus(added.count(), added.minutes()));
+            bookedMinutes += minutes;
+        }
+        return new MonthAggregate(month, dayCounts, teams, bookedMinutes);
+    }
+
+    private WriteState writeState(YearMonth month) {
+        return writes.computeIfAbsent(month, key -> new WriteState());
+    }
+
+    private static ScheduleStatisticsDto summarize(LocalDate from, LocalDate to, List<MonthAggregate> aggregates) {
+        long capacityMinutes = (ChronoUnit.DAYS.between(from, to) + 1) * MINUTES_PER_DAY;
+        Map<LocalDate, Integer> dailyCounts = new LinkedHashMap<>();
+        Map<String, long[]> teamTotals = new HashMap<>();
+        long totalSchedules = 0;
+        long bookedMinutes = 0;
+
+        for (MonthAggregate aggregate : aggregates) {
+            for (int day = 1; day <= aggregate.month.lengthOfMonth(); day++) {
+                int count = aggregate.dayCounts[day - 1];
+                dailyCounts.put(aggregate.month.atDay(day), count);
+                totalSchedules += count;
+            }
+            aggregate.teams.forEach((teamName, totals) -> {
+                long[] merged = teamTotals.computeIfAbsent(teamName, key -> new long[2]);
+                merged[0] += totals.count();
+                merged[1] += totals.minutes();
+            });
+            bookedMinutes += aggregate.bookedMinutes;
+        }
+
+        List<ScheduleStatisticsDto.TeamStatistics> teams = teamTotals.entrySet().stream()
+                .map(entry -> new ScheduleStatisticsDto.TeamStatistics(entry.getKey(), entry.getValue()[0],
+                        entry.getValue()[1], entry.getValue()[1] / 60.0,
+                        (double) entry.getValue()[1] / capacityMinutes))
+                .sorted(Comparator.comparingLong(ScheduleStatisticsDto.TeamStatistics::getBookedMinutes).reversed()
+                        .thenComparing(ScheduleStatisticsDto.TeamStatistics::getTeamName))
+                .toList();
+
+        return ScheduleStatisticsDto.builder()
+                .from(from)
+                .to(to)
+                .totalSchedules(totalSchedules)
+                .bookedMinutes(bookedMinutes)
+                .utilization((double) bookedMinutes / capacityMinutes)
+                .dailyCounts(dailyCounts)
+                .teams(teams)
+                .build();
+    }
+
+    private static long minutesBetween(LocalTime startTime, LocalTime endTime) {
+        return ChronoUnit.MINUTES.between(startTime, endTime);
+    }
+
+    /**
+     * 한 달치 집계 (변경 불가, 증분 반영 시 복사본 생성)
+     */
+    private static final class MonthAggregate {
+
+        private final YearMonth month;
+        private final int[] dayCounts;
+        private final Map<String, TeamTotals> teams;
+        private final long bookedMinutes;
+
+        private MonthAggregate(YearMonth month, int[] dayCounts, Map<String, TeamTotals> teams, long bookedMinutes) {
+            this.month = month;
+            this.dayCounts = dayCounts;
+            this.teams = teams;
+            this.bookedMinutes = bookedMinutes;
+        }
+
+        MonthAggregate with(LocalDate date, String teamName, long minutes, int sign) {
+            int[] counts = dayCounts.clone();
+            counts[date.getDayOfMonth() - 1] += sign;
+
+            Map<String, TeamTotals> nextTeams = new HashMap<>(teams);
+            TeamTotals totals = nextTeams.getOrDefault(teamName, TeamTotals.ZERO)
+                    .plus(sign, sign * minutes);
+            if (totals.count() <= 0) {
+                nextTeams.remove(teamName);
+            } else {
+                nextTeams.put(teamName, totals);
+            }
+            return new MonthAggregate(month, counts, nextTeams, bookedMinutes + sign * minutes);
+        }
+    }
+
+    private record TeamTotals(long count, long minutes) {
+
+        static final TeamTotals ZERO = new TeamTotals(0, 0);
+
+        TeamTotals plus(long countDelta, long minutesDelta) {
+            return new TeamTotals(count + countDelta, minutes + minutesDelta);
+        }
+    }
+
+    /**
+     * 월별 쓰기 상태
+     * - pending: 커밋 직전 ~ 완료 사이의 쓰기 수
+     * - version: 시작된 쓰기 수 (집계 중 쓰기가 있었는지 판단)
+     */
+    private static final class WriteState {
+
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicLong version = new AtomicLong();
+
+        void begin() {
+            pending.incrementAndGet();
+            version.incrementAndGet();
+        }
+
+        void end() {
+            pending.decrementAndGet();
+        }
+    }
+}
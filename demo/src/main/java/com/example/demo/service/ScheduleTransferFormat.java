@@ -0,0 +1,30 @@
+package com.example.demo.service;
+
+/**
+ * 일정 일괄 등록/내보내기 형식
+ */
+public enum ScheduleTransferFormat {
+
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    ScheduleTransferFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 형식 이름(csv, ndjson) 또는 Content-Type으로 형식 결정, 기본값은 CSV
+     */
+    public static ScheduleTransferFormat from(String value) {
+        if (value != null && (value.equalsIgnoreCase("ndjson") || value.startsWith(NDJSON.mediaType))) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
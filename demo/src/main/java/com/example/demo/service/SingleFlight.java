@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 같은 키의 동시 조회를 한 번의 실행으로 합치는 요청 병합기
+ *
+ * 먼저 들어온 호출이 자기 스레드에서 조회를 실행하고, 실행 중에 들어온 같은 키의 호출은
+ * 그 결과(또는 예외)를 함께 받는다. 결과를 보관하지는 않으므로 실행이 끝나면 다음 호출은 새로 조회한다.
+ * forget으로 실행 중인 조회를 떼어 내면 이후 호출은 그 결과를 기다리지 않고 새로 조회한다.
+ * 먼저 시작한 조회가 maxWait 안에 끝나지 않으면 기다리던 호출은 더 기다리지 않고 직접 조회한다.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter shared;
+    private final Counter timedOut;
+    private final long maxWaitNanos;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry, Duration maxWait) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executed = callCounter(name, "executed", meterRegistry);
+        this.shared = callCounter(name, "shared", meterRegistry);
+        this.timedOut = callCounter(name, "timed_out", meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            return await(existing, loader);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 실행 중인 조회를 떼어 내 이후 호출이 새로 조회하도록 함 (이미 기다리는 호출은 그 결과를 받음)
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    private V await(CompletableFuture<V> flight, Supplier<V> loader) {
+        try {
+            return flight.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // 먼저 시작한 조회가 멈춘 경우에도 기다리는 요청이 함께 묶이지 않도록 직접 조회
+            timedOut.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an in-flight read", e);
+        }
+    }
+
+    private static Counter callCounter(String name, String result, MeterRegistry meterRegistry) {
+        return Counter.builder("app.schedule.coalesced.calls")
+                .description("Coalesced read calls by whether they ran the query, shared an in-flight result "
+                        + "or stopped waiting")
+                .tag("query", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.entity.Member;
+import com.example.demo.entity.Team;
+import com.example.demo.repository.MemberRepository;
+import com.example.demo.repository.TeamMembershipRepository;
+import com.example.demo.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 새 팀/팀원 이름 행과 팀 소속 행 생성
+ *
+ * 이름에 유니크 인덱스가 있어 같은 새 이름을 여러 요청이 동시에 만들면 한쪽 INSERT가 실패한다.
+ * 실패한 INSERT는 속한 트랜잭션을 되돌리므로, 일정 저장 트랜잭션과 분리된 새 트랜잭션에서 만들고
+ * 실패하면 호출한 쪽(TeamService)이 먼저 만들어진 행을 다시 읽는다.
+ * 팀 소속(team_member)도 같은 이유로 새 트랜잭션에서 있으면 건너뛰는 MERGE로 추가한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamNameWriter {
+
+    private final TeamRepository teamRepository;
+    private final MemberRepository memberRepository;
+    private final TeamMembershipRepository teamMembershipRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createTeams(Collection<String> names) {
+        teamRepository.saveAllAndFlush(names.stream().map(Team::new).toList());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createMembers(Collection<String> names) {
+        memberRepository.saveAllAndFlush(names.stream().map(Member::new).toList());
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void addMemberships(Map<Long, Set<Long>> memberIdsByTeam) {
+        teamMembershipRepository.addMemberships(memberIdsByTeam);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.demo.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.MemberDto;
+import com.example.demo.dto.TeamDto;
+import com.example.demo.entity.Member;
+import com.example.demo.entity.Schedule;
+import com.example.demo.entity.Team;
+import com.example.demo.repository.MemberRepository;
+import com.example.demo.repository.TeamRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팀/팀원 정규화
+ *
+ * 일정의 팀 이름과 팀원 구성 문자열을 Team/Member로 연결한다.
+ * 여러 일정을 한 번에 처리할 때도 팀/팀원 조회와 생성은 이름 IN 조회 한 번씩으로 끝난다.
+ * 없는 이름은 별도 트랜잭션(TeamNameWriter)에서 만들고, 동시에 같은 이름을 만든 요청이 있어
+ * 유니크 인덱스에 걸리면 먼저 만들어진 행을 다시 읽어 쓴다.
+ * 팀 소속도 별도 트랜잭션에서 MERGE로 추가하고, 그래도 키가 부딪히면 다시 시도한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TeamService {
+
+    // 같은 이름을 동시에 만드는 요청과 부딪혔을 때 다시 읽고 만드는 최대 횟수
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
+    private final TeamRepository teamRepository;
+    private final MemberRepository memberRepository;
+    private final TeamNameWriter teamNameWriter;
+
+    /**
+     * 일정들의 팀 이름/팀원 구성으로 Team/Member를 찾거나 만들어 연결
+     * - 팀에는 해당 일정의 팀원을 누적
+     */
+    public void assign(Collection<Schedule> schedules) {
+        Map<String, Team> teams = resolveTeams(schedules.stream()
+                .map(Schedule::getTeamName)
+                .collect(Collectors.toSet()));
+        Map<Schedule, List<String>> memberNames = new HashMap<>();
+        Set<String> allNames = new HashSet<>();
+        for (Schedule schedule : schedules) {
+            List<String> names = MemberNames.parse(schedule.getTeamMembers());
+            memberNames.put(schedule, names);
+            allNames.addAll(names);
+        }
+        Map<String, Member> members = resolveMembers(allNames);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Set<Long>> memberships = new HashMap<>();
+        for (Schedule schedule : schedules) {
+            Team team = teams.get(schedule.getTeamName());
+            Set<Member> scheduleMembers = memberNames.get(schedule).stream()
+                    .map(members::get)
+                    .collect(Collectors.toSet());
+            schedule.setTeam(team);
+            if (!schedule.getMembers().equals(scheduleMembers)) {
+                schedule.getMembers().clear();
+                schedule.getMembers().addAll(scheduleMembers);
+            }
+            scheduleMembers.forEach(member ->
+                    memberships.computeIfAbsent(team.getId(), id -> new HashSet<>()).add(member.getId()));
+            team.markUsed(now);
+        }
+        addMemberships(memberships);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> findTeamId(String teamName) {
+        return teamRepository.findByName(teamName).map(Team::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TeamDto> getRecentTeams(int size) {
+        return teamRepository.findByLastUsedAtNotNullOrderByLastUsedAtDesc(Limit.of(size)).stream()
+                .map(TeamDto::fromEntity)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<MemberDto> searchMembers(String prefix, int size) {
+        return memberRepository.findByNameStartingWithOrderByNameAsc(prefix.strip(), Limit.of(size)).stream()
+                .map(MemberDto::fromEntity)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public boolean memberExists(Long memberId) {
+        return memberRepository.existsById(memberId);
+    }
+
+    private Map<String, Team> resolveTeams(Set<String> names) {
+        return resolve(names, teamRepository::findByNameIn, Team::getName, teamNameWriter::createTeams);
+    }
+
+    private Map<String, Member> resolveMembers(Set<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        return resolve(names, memberRepository::findByNameIn, Member::getName, teamNameWriter::createMembers);
+    }
+
+    private void addMemberships(Map<Long, Set<Long>> memberships) {
+        if (memberships.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                teamNameWriter.addMemberships(memberships);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 이름으로 찾고, 없는 이름은 만든 뒤 다시 읽음
+     * - 만드는 중 유니크 인덱스 위반이면 다른 요청이 먼저 만든 것이므로 다시 읽어 남은 이름만 다시 만듦
+     */
+    private static <T> Map<String, T> resolve(Set<String> names,
+                                              Function<Collection<String>, List<T>> finder,
+                                              Function<T, String> nameOf,
+                                              Consumer<Collection<String>> creator) {
+        Map<String, T> found = new HashMap<>();
+        Set<String> missing = names;
+        for (int attempt = 1; ; attempt++) {
+            finder.apply(missing).forEach(entity -> found.put(nameOf.apply(entity), entity));
+            missing = names.stream()
+                    .filter(name -> !found.containsKey(name))
+                    .collect(Collectors.toSet());
+            if (missing.isEmpty()) {
+                return found;
+            }
+            try {
+                creator.accept(missing);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
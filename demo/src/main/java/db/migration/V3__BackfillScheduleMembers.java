@@ -0,0 +1,144 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 기존 일정의 팀원 구성 문자열을 파싱해 members, schedule_member, team_member 채우기
+ * - 1차: 전체 팀원 이름을 모아 한 번에 배치 INSERT
+ * - 2차: 일정별 팀원 연결과 팀-팀원 연결을 배치 INSERT
+ *
+ * 마이그레이션은 작성 시점의 규칙으로 고정되어야 하므로 애플리케이션의 파싱 코드를 쓰지 않고
+ * 당시 규칙(MemberNames와 같은 구분자, 최대 길이)을 그대로 옮겨 둔다.
+ */
+public class V3__BackfillScheduleMembers extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_NAME_LENGTH = 100;
+    private static final Pattern SEPARATORS = Pattern.compile("[,，、;/·\\r\\n]+");
+    private static final String SELECT_SCHEDULES =
+            "SELECT id, team_id, team_members FROM schedule WHERE team_members IS NOT NULL";
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        Map<String, Long> memberIds = insertMembers(connection, collectMemberNames(connection));
+        if (!memberIds.isEmpty()) {
+            linkSchedules(connection, memberIds);
+        }
+    }
+
+    private Set<String> collectMemberNames(Connection connection) throws SQLException {
+        Set<String> names = new LinkedHashSet<>();
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(BATCH_SIZE);
+            try (ResultSet rows = statement.executeQuery(SELECT_SCHEDULES)) {
+                while (rows.next()) {
+                    names.addAll(parseMemberNames(rows.getString("team_members")));
+                }
+            }
+        }
+        return names;
+    }
+
+    private Map<String, Long> insertMembers(Connection connection, Set<String> names) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO members (name) VALUES (?)")) {
+            int pending = 0;
+            for (String name : names) {
+                insert.setString(1, name);
+                insert.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    insert.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+
+        Map<String, Long> memberIds = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT id, name FROM members")) {
+            while (rows.next()) {
+                memberIds.put(rows.getString("name"), rows.getLong("id"));
+            }
+        }
+        return memberIds;
+    }
+
+    private void linkSchedules(Connection connection, Map<String, Long> memberIds) throws SQLException {
+        Set<TeamMember> teamMembers = new LinkedHashSet<>();
+        try (Statement statement = connection.createStatement();
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO schedule_member (schedule_id, member_id) VALUES (?, ?)")) {
+            statement.setFetchSize(BATCH_SIZE);
+            int pending = 0;
+            try (ResultSet rows = statement.executeQuery(SELECT_SCHEDULES)) {
+                while (rows.next()) {
+                    long scheduleId = rows.getLong("id");
+                    long teamId = rows.getLong("team_id");
+                    for (String name : parseMemberNames(rows.getString("team_members"))) {
+                        long memberId = memberIds.get(name);
+                        insert.setLong(1, scheduleId);
+                        insert.setLong(2, memberId);
+                        insert.addBatch();
+                        teamMembers.add(new TeamMember(teamId, memberId));
+                        if (++pending == BATCH_SIZE) {
+                            insert.executeBatch();
+                            pending = 0;
+                        }
+                    }
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO team_member (team_id, member_id) VALUES (?, ?)")) {
+            int pending = 0;
+            for (TeamMember teamMember : teamMembers) {
+                insert.setLong(1, teamMember.teamId());
+                insert.setLong(2, teamMember.memberId());
+                insert.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    insert.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private static Set<String> parseMemberNames(String teamMembers) {
+        Set<String> names = new LinkedHashSet<>();
+        if (teamMembers == null || teamMembers.isBlank()) {
+            return names;
+        }
+        for (String token : SEPARATORS.split(teamMembers)) {
+            String name = token.strip();
+            if (!name.isEmpty() && name.length() <= MAX_NAME_LENGTH) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private record TeamMember(long teamId, long memberId) {
+    }
+}
@@ -0,0 +1,32 @@
+-- 초기 스키마 (엔티티 매핑과 동일하게 유지)
+
+CREATE SEQUENCE schedule_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE schedule (
+    id            BIGINT       NOT NULL PRIMARY KEY,
+    team_name     VARCHAR(50)  NOT NULL,
+    team_members  VARCHAR(500),
+    schedule_date DATE         NOT NULL,
+    start_time    TIME         NOT NULL,
+    end_time      TIME         NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL
+);
+
+-- findByScheduleDate...OrderByStartTimeAsc, ...Between...OrderByScheduleDateAscStartTimeAsc: 정렬까지 인덱스로 처리
+CREATE INDEX idx_schedule_date_start_time ON schedule (schedule_date, start_time);
+-- 팀별 기간 조회
+CREATE INDEX idx_schedule_team_date_start_time ON schedule (team_name, schedule_date, start_time);
+
+CREATE TABLE posts (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title      VARCHAR(200) NOT NULL,
+    author     VARCHAR(100) NOT NULL,
+    content    TEXT         NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    views      INTEGER      NOT NULL DEFAULT 0
+);
+
+-- 최신순 커서 페이지
+CREATE INDEX idx_posts_created_at_id ON posts (created_at, id);
@@ -0,0 +1,37 @@
+-- 팀/팀원 정규화
+
+CREATE TABLE teams (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(50) NOT NULL
+);
+CREATE UNIQUE INDEX uk_teams_name ON teams (name);
+
+CREATE TABLE members (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL
+);
+CREATE UNIQUE INDEX uk_members_name ON members (name);
+
+CREATE TABLE team_member (
+    team_id   BIGINT NOT NULL REFERENCES teams (id),
+    member_id BIGINT NOT NULL REFERENCES members (id),
+    PRIMARY KEY (team_id, member_id)
+);
+
+CREATE TABLE schedule_member (
+    schedule_id BIGINT NOT NULL REFERENCES schedule (id),
+    member_id   BIGINT NOT NULL REFERENCES members (id),
+    PRIMARY KEY (schedule_id, member_id)
+);
+-- 팀원 -> 일정 조회
+CREATE INDEX idx_schedule_member_member ON schedule_member (member_id, schedule_id);
+
+ALTER TABLE schedule ADD COLUMN team_id BIGINT REFERENCES teams (id);
+
+-- 기존 팀 이름으로 팀 생성 후 연결
+INSERT INTO teams (name) SELECT DISTINCT team_name FROM schedule;
+UPDATE schedule SET team_id = (SELECT t.id FROM teams t WHERE t.name = schedule.team_name);
+
+-- 팀별 조회는 문자열 대신 team_id 인덱스 사용
+DROP INDEX idx_schedule_team_date_start_time;
+CREATE INDEX idx_schedule_team_id_date_start_time ON schedule (team_id, schedule_date, start_time);
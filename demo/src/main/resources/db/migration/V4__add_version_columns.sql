@@ -0,0 +1,3 @@
+-- 낙관적 잠금(@Version) 컬럼
+ALTER TABLE schedule ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE posts ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,25 @@
+-- 반복 일정 (규칙만 저장하고 회차는 조회 시 펼침)
+
+CREATE TABLE schedule_series (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    version          BIGINT       NOT NULL DEFAULT 0,
+    team_name        VARCHAR(50)  NOT NULL,
+    team_members     VARCHAR(500),
+    start_date       DATE         NOT NULL,
+    until_date       DATE,
+    occurrence_count INTEGER,
+    interval_weeks   INTEGER      NOT NULL,
+    start_time       TIME         NOT NULL,
+    end_time         TIME         NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    updated_at       TIMESTAMP(6) NOT NULL
+);
+
+-- 조회 범위와 겹치는 반복 일정 찾기 (start_date <= 범위 끝, until_date >= 범위 시작)
+CREATE INDEX idx_schedule_series_start_until ON schedule_series (start_date, until_date);
+
+CREATE TABLE schedule_series_exception (
+    series_id      BIGINT NOT NULL,
+    exception_date DATE   NOT NULL,
+    PRIMARY KEY (series_id, exception_date)
+);
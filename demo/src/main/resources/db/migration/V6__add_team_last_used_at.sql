@@ -0,0 +1,4 @@
+-- 최근 사용 팀 목록 (생성 순이 아니라 마지막으로 일정에 연결된 순)
+ALTER TABLE teams ADD COLUMN last_used_at TIMESTAMP(6);
+UPDATE teams SET last_used_at = (SELECT MAX(s.updated_at) FROM schedule s WHERE s.team_id = teams.id);
+CREATE INDEX idx_teams_last_used_at ON teams (last_used_at);
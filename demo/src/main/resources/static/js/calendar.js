@@ -1,19 +1,26 @@
 // 달력 관련 JavaScript
 
 document.addEventListener('DOMContentLoaded', function() {
-    // 일정 아이템 클릭 시 수정 페이지로 이동
-    const scheduleItems = document.querySelectorAll('.schedule-item');
-    
-    scheduleItems.forEach(item => {
-        item.addEventListener('click', function(e) {
-            e.stopPropagation();
-            const scheduleId = this.getAttribute('data-id');
-            if (scheduleId) {
-                window.location.href = `/schedules/${scheduleId}/edit`;
-            }
-        });
+    // 일정 아이템 클릭 시 수정 페이지로 이동 (달력을 다시 그려도 동작하도록 위임)
+    document.addEventListener('click', function(e) {
+        const item = e.target.closest('.schedule-item');
+        if (!item) {
+            return;
+        }
+        e.stopPropagation();
+        const scheduleId = item.getAttribute('data-id');
+        if (scheduleId) {
+            window.location.href = `/schedules/${scheduleId}/edit`;
+        }
     });
 
+    // 보고 있는 달의 변경을 구독해 새로고침 없이 달력 갱신
+    const calendar = document.querySelector('.calendar[data-year]');
+    if (calendar) {
+        subscribeCalendarChanges(calendar.dataset.year, calendar.dataset.month,
+            calendar.querySelector('.calendar-body'));
+    }
+
     // 알림 메시지 자동 숨김
     const alerts = document.querySelectorAll('.alert');
     alerts.forEach(alert => {
@@ -30,21 +37,16 @@ function viewDayDetail(date) {
     window.location.href = `/schedules/daily/${date}`;
 }
 
-// 일정 충돌 확인
-function checkScheduleOverlap(date, startTime, endTime) {
-    fetch(`/schedules/api/daily/${date}`)
+// 일정 충돌 확인 (서버에서 판단하므로 하루치 일정을 내려받지 않음, 수정 중이면 excludeId로 자기 자신 제외)
+function checkScheduleOverlap(date, startTime, endTime, excludeId) {
+    const params = new URLSearchParams({ date, startTime, endTime });
+    if (excludeId) {
+        params.append('excludeId', excludeId);
+    }
+    fetch(`/schedules/api/overlap?${params}`)
         .then(response => response.json())
-        .then(schedules => {
-            const hasOverlap = schedules.some(schedule => {
-                const scheduleStart = new Date(`${date}T${schedule.startTime}`);
-                const scheduleEnd = new Date(`${date}T${schedule.endTime}`);
-                const newStart = new Date(`${date}T${startTime}`);
-                const newEnd = new Date(`${date}T${endTime}`);
-                
-                return (newStart < scheduleEnd && newEnd > scheduleStart);
-            });
-            
-            if (hasOverlap) {
+        .then(result => {
+            if (result.overlapping) {
                 alert('선택한 시간대에 이미 다른 일정이 있습니다.');
             }
         })
@@ -52,3 +54,118 @@ function checkScheduleOverlap(date, startTime, endTime) {
             console.error('Error checking schedule overlap:', error);
         });
 }
+
+// 빈 시간대 검색 (durationMinutes 이상 비어 있는 구간 목록, 모든 팀의 일정을 바쁜 시간으로 계산)
+function findAvailableSlots(from, to, durationMinutes) {
+    const params = new URLSearchParams({ from, to, duration: durationMinutes });
+    return fetch(`/schedules/api/availability?${params}`)
+        .then(response => response.ok ? response.json() : []);
+}
+
+
+// 날짜 칸에 보여 주는 최대 일정 수 (CalendarMonthDto.MAX_VISIBLE_SCHEDULES와 같게 유지)
+const MAX_VISIBLE_SCHEDULES = 3;
+// 월 전체를 다시 받을 때 구독자들이 한꺼번에 요청하지 않도록 흩뜨리는 최대 지연
+const RELOAD_JITTER_MS = 2000;
+
+// 월별 변경 구독
+// - 추가/수정/삭제는 받은 내용으로 날짜 칸만 고침
+// - 일괄 등록(reload)이나 더보기가 걸린 날짜처럼 칸만으로 고칠 수 없으면 무작위 지연 후 날짜 칸 전체를 다시 받음
+function subscribeCalendarChanges(year, month, calendarBody) {
+    if (!window.EventSource || !calendarBody) {
+        return;
+    }
+    const params = new URLSearchParams({ year, month });
+    const source = new EventSource(`/schedules/api/changes?${params}`);
+    let reloadTimer = null;
+
+    const reloadGrid = () => {
+        if (reloadTimer !== null) {
+            return;
+        }
+        reloadTimer = setTimeout(() => {
+            reloadTimer = null;
+            fetch(`/schedules/grid?${params}`)
+                .then(response => response.ok ? response.text() : null)
+                .then(html => {
+                    if (html !== null) {
+                        calendarBody.innerHTML = html;
+                    }
+                })
+                .catch(error => console.error('Error refreshing calendar:', error));
+        }, Math.random() * RELOAD_JITTER_MS);
+    };
+
+    source.addEventListener('schedules', event => {
+        const change = JSON.parse(event.data);
+        if (change.reload || !applyCalendarChange(calendarBody, change)) {
+            reloadGrid();
+        }
+    });
+    window.addEventListener('pagehide', () => source.close());
+}
+
+// 변경 내용을 날짜 칸에 반영 (칸만으로 반영할 수 없으면 false)
+function applyCalendarChange(calendarBody, change) {
+    let applied = true;
+    const removeItem = id => {
+        const item = calendarBody.querySelector(`.schedule-item[data-id="${id}"]`);
+        if (!item) {
+            return;
+        }
+        const container = item.parentElement;
+        item.remove();
+        // 가려져 있던 일정이 있는 날짜는 서버 목록이 있어야 다시 채울 수 있음
+        if (container.querySelector('.schedule-more')) {
+            applied = false;
+        }
+    };
+
+    change.deleted.forEach(removeItem);
+    change.upserted.forEach(schedule => {
+        removeItem(schedule.id);
+        const day = calendarBody.querySelector(`.calendar-day[data-date="${schedule.scheduleDate}"]`);
+        if (!day) {
+            return;
+        }
+        const container = day.querySelector('.schedules-container');
+        const items = container.querySelectorAll('.schedule-item');
+        if (container.querySelector('.schedule-more') || items.length >= MAX_VISIBLE_SCHEDULES) {
+            applied = false;
+            return;
+        }
+        const start = schedule.startTime.substring(0, 5);
+        const next = Array.from(items).find(item => item.dataset.start.substring(0, 5) > start);
+        container.insertBefore(createScheduleItem(schedule), next || container.querySelector('.schedule-more'));
+    });
+    return applied;
+}
+
+// calendar-grid.html의 일정 항목과 같은 구조
+function createScheduleItem(schedule) {
+    const start = schedule.startTime.substring(0, 5);
+    const end = schedule.endTime.substring(0, 5);
+    const item = document.createElement('div');
+    item.className = 'schedule-item';
+    item.dataset.id = schedule.id;
+    item.dataset.team = schedule.teamName;
+    item.dataset.start = start;
+    item.dataset.end = end;
+
+    const time = document.createElement('span');
+    time.className = 'schedule-time';
+    time.textContent = start;
+    const team = document.createElement('span');
+    team.className = 'schedule-team';
+    team.textContent = schedule.teamName;
+    const tooltip = document.createElement('div');
+    tooltip.className = 'schedule-tooltip';
+    const title = document.createElement('strong');
+    title.textContent = schedule.teamName;
+    const range = document.createElement('span');
+    range.textContent = `${start} - ${end}`;
+    tooltip.append(title, document.createElement('br'), range);
+
+    item.append(time, team, tooltip);
+    return item;
+}
@@ -1,5 +1,7 @@
 // teams.js
-// 최근 추가한 팀 이름을 localStorage에 저장하고 블럭 형태로 표시
+// 최근 팀 목록을 블럭 형태로 표시
+// - localStorage: 이 브라우저에서 사용자가 직접 추가한 최근 팀 (앞쪽에 표시)
+// - 서버: 최근 일정에 사용된 팀 (남는 자리만 채우고 localStorage에는 저장하지 않음)
 
 (function() {
     const STORAGE_KEY = 'recentTeams';
@@ -55,12 +57,11 @@
         saveRecentTeams(list);
     }
 
-    // 최근 팀 블럭 렌더링
-    function renderRecentTeams() {
+    // 최근 팀 블럭 렌더링 (목록을 주지 않으면 localStorage 목록)
+    function renderRecentTeams(teams = getRecentTeams()) {
         const container = document.getElementById('recentSchedules');
         if (!container) return;
 
-        const teams = getRecentTeams();
         container.innerHTML = '';
 
         if (teams.length === 0) {
@@ -96,10 +97,29 @@
         });
     }
 
+    // 사용자의 최근 팀 뒤에 서버의 최근 사용 팀을 이어 붙여 표시 (같은 이름은 사용자 목록 우선)
+    function loadServerTeams() {
+        return fetch(`/schedules/api/teams?size=${MAX_TEAMS}`)
+            .then(response => response.ok ? response.json() : Promise.reject(response.status))
+            .then(serverTeams => {
+                const merged = getRecentTeams()
+                    .map(t => typeof t === 'string' ? { teamName: t, teamMembers: '' } : t);
+                const seen = new Set(merged.map(t => t.teamName.toLowerCase()));
+                serverTeams.forEach(team => {
+                    if (merged.length >= MAX_TEAMS || seen.has(team.name.toLowerCase())) return;
+                    seen.add(team.name.toLowerCase());
+                    merged.push({ teamName: team.name, teamMembers: team.members.join(', ') });
+                });
+                renderRecentTeams(merged);
+            })
+            .catch(error => console.error('Error loading teams', error));
+    }
+
     // 초기화
     document.addEventListener('DOMContentLoaded', function() {
-        // 최근 팀 목록 렌더링
+        // 저장된 목록을 먼저 보여주고 서버 목록으로 빈자리 채우기
         renderRecentTeams();
+        loadServerTeams();
 
         // 폼 제출 시 팀 정보 저장
         const form = document.querySelector('form');
@@ -121,6 +141,7 @@
     window.RecentTeams = {
         getRecentTeams,
         addRecentTeam,
-        renderRecentTeams
+        renderRecentTeams,
+        loadServerTeams
     };
 })();
@@ -0,0 +1,93 @@
+package com.example.demo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.demo.dto.PostDto;
+import com.example.demo.repository.PostRepository;
+import com.example.demo.service.PostService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 서비스 호출 타이머(app.service)와 리포지토리 호출 수/행 수 계측 확인
+ */
+@SpringBootTest
+class HotPathMetricsTests {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceCallsAreTimedPerMethod() {
+        Long id = postService.createPost(postDto("계측 대상")).getId();
+        long before = serviceTimerCount("getPostById");
+
+        postService.getPostById(id);
+        postService.getPostById(id);
+
+        assertThat(serviceTimerCount("getPostById")).isEqualTo(before + 2);
+    }
+
+    @Test
+    void repositoryCallsCountQueriesAndRows() {
+        String title = "행수계측-" + System.nanoTime();
+        postService.createPost(postDto(title));
+        postService.createPost(postDto(title));
+        double queriesBefore = repositoryQueryCount();
+        long rowsBefore = repositoryRows().map(DistributionSummary::count).orElse(0L);
+        double totalBefore = repositoryRows().map(DistributionSummary::totalAmount).orElse(0.0);
+
+        assertThat(postRepository.findByTitleContaining(title)).hasSize(2);
+
+        assertThat(repositoryQueryCount()).isEqualTo(queriesBefore + 1);
+        DistributionSummary rows = repositoryRows().orElseThrow();
+        assertThat(rows.count()).isEqualTo(rowsBefore + 1);
+        assertThat(rows.totalAmount()).isEqualTo(totalBefore + 2);
+    }
+
+    private long serviceTimerCount(String method) {
+        Timer timer = meterRegistry.find("app.service")
+                .tag("service", "PostService")
+                .tag("method", method)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double repositoryQueryCount() {
+        Counter counter = meterRegistry.find("app.repository.queries")
+                .tag("repository", "PostRepository")
+                .tag("method", "findByTitleContaining")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private Optional<DistributionSummary> repositoryRows() {
+        return Optional.ofNullable(meterRegistry.find("app.repository.rows")
+                .tag("repository", "PostRepository")
+                .tag("method", "findByTitleContaining")
+                .summary());
+    }
+
+    private static PostDto postDto(String title) {
+        PostDto dto = new PostDto();
+        dto.setTitle(title);
+        dto.setAuthor("작성자");
+        dto.setContent("본문");
+        return dto;
+    }
+}
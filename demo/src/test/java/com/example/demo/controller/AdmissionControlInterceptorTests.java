@@ -0,0 +1,147 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import com.example.demo.config.AdmissionProperties;
+import com.example.demo.exception.ExpectedErrorLog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdmissionControlInterceptorTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rejectsOverRateWith429AndRetryAfter() throws Exception {
+        AdmissionControlInterceptor interceptor = interceptor(new AdmissionProperties.Limit(1, 2, 0));
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = request(null);
+            assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler("limited"))).isTrue();
+            interceptor.afterCompletion(request, new MockHttpServletResponse(), handler("limited"), null);
+        }
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request(null), rejected, handler("limited"))).isFalse();
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        // 다음 토큰까지 1초 이내이므로 올림하여 1초
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).isNotBlank();
+        assertThat(rejected("rate")).isEqualTo(1.0);
+
+        // 다른 클라이언트는 자기 버킷을 사용
+        MockHttpServletRequest other = request(null);
+        other.setRemoteAddr("10.0.0.2");
+        assertThat(interceptor.preHandle(other, new MockHttpServletResponse(), handler("limited"))).isTrue();
+    }
+
+    @Test
+    void releasesConcurrencySlotInAfterCompletion() throws Exception {
+        AdmissionControlInterceptor interceptor = interceptor(new AdmissionProperties.Limit(0, 1, 1));
+        MockHttpServletRequest first = request(null);
+        assertThat(interceptor.preHandle(first, new MockHttpServletResponse(), handler("limited"))).isTrue();
+        assertThat(inFlight()).isEqualTo(1.0);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request(null), rejected, handler("limited"))).isFalse();
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected("concurrency")).isEqualTo(1.0);
+
+        // 핸들러가 예외로 끝나도 afterCompletion에서 반납하며, 두 번 불려도 한 번만 반납
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("limited"),
+                new IllegalStateException("failed"));
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), handler("limited"), null);
+        assertThat(inFlight()).isZero();
+
+        assertThat(interceptor.preHandle(request(null), new MockHttpServletResponse(), handler("limited"))).isTrue();
+        assertThat(inFlight()).isEqualTo(1.0);
+    }
+
+    @Test
+    void appliesWhenParamOnlyWithNonBlankValue() throws Exception {
+        AdmissionControlInterceptor interceptor = interceptor(new AdmissionProperties.Limit(0, 1, 1));
+
+        // 검색어가 없으면 한도를 적용하지 않음 (반납할 것도 없음)
+        for (String keyword : new String[] {null, "", " "}) {
+            MockHttpServletRequest request = request(keyword);
+            assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), handler("search"))).isTrue();
+            assertThat(request.getAttributeNames().hasMoreElements()).isFalse();
+        }
+
+        assertThat(interceptor.preHandle(request("spring"), new MockHttpServletResponse(), handler("search")))
+                .isTrue();
+        assertThat(interceptor.preHandle(request("spring"), new MockHttpServletResponse(), handler("search")))
+                .isFalse();
+    }
+
+    @Test
+    void ignoresUnannotatedHandlersAndDisabledControl() throws Exception {
+        AdmissionControlInterceptor interceptor = interceptor(new AdmissionProperties.Limit(0, 1, 1));
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.preHandle(request(null), new MockHttpServletResponse(), handler("plain")))
+                    .isTrue();
+        }
+
+        AdmissionControlInterceptor disabled = new AdmissionControlInterceptor(
+                new AdmissionProperties(false, Duration.ofMinutes(10), 100,
+                        Map.of("test", new AdmissionProperties.Limit(0, 1, 1))),
+                meterRegistry, new ExpectedErrorLog(meterRegistry, Duration.ofSeconds(10)));
+        for (int i = 0; i < 3; i++) {
+            assertThat(disabled.preHandle(request(null), new MockHttpServletResponse(), handler("limited")))
+                    .isTrue();
+        }
+    }
+
+    private AdmissionControlInterceptor interceptor(AdmissionProperties.Limit limit) {
+        return new AdmissionControlInterceptor(
+                new AdmissionProperties(true, Duration.ofMinutes(10), 100, Map.of("test", limit)),
+                meterRegistry, new ExpectedErrorLog(meterRegistry, Duration.ofSeconds(10)));
+    }
+
+    private static MockHttpServletRequest request(String keyword) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        request.setRemoteAddr("10.0.0.1");
+        if (keyword != null) {
+            request.setParameter("keyword", keyword);
+        }
+        return request;
+    }
+
+    private static HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getMethod(method));
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("app.admission.rejected").tag("limit", "test").tag("reason", reason)
+                .counter().count();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("app.admission.in-flight").tag("limit", "test").gauge().value();
+    }
+
+    static class Handlers {
+
+        @AdmissionControlled("test")
+        public void limited() {
+        }
+
+        @AdmissionControlled(value = "test", whenParam = "keyword")
+        public void search() {
+        }
+
+        public void plain() {
+        }
+    }
+}
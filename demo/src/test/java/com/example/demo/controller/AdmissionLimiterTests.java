@@ -0,0 +1,66 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.AdmissionProperties;
+
+class AdmissionLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void admitsBurstThenRejectsUntilNextToken() {
+        AdmissionLimiter limiter = limiter(new AdmissionProperties.Limit(2, 3, 0));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(AdmissionLimiter.Decision.ADMITTED);
+        }
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(AdmissionLimiter.Decision.RATE_LIMITED);
+        assertThat(limiter.retryAfter("10.0.0.1")).isEqualTo(Duration.ofMillis(500));
+
+        // 다른 클라이언트는 자기 버킷을 사용
+        assertThat(limiter.tryAcquire("10.0.0.2")).isEqualTo(AdmissionLimiter.Decision.ADMITTED);
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(AdmissionLimiter.Decision.ADMITTED);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(AdmissionLimiter.Decision.RATE_LIMITED);
+    }
+
+    @Test
+    void rejectsBeyondMaxConcurrentUntilReleased() {
+        AdmissionLimiter limiter = limiter(new AdmissionProperties.Limit(0, 1, 2));
+
+        assertThat(limiter.tryAcquire("a")).isEqualTo(AdmissionLimiter.Decision.ADMITTED);
+        assertThat(limiter.tryAcquire("b")).isEqualTo(AdmissionLimiter.Decision.ADMITTED);
+        assertThat(limiter.tryAcquire("c")).isEqualTo(AdmissionLimiter.Decision.CONCURRENCY_LIMITED);
+
+        limiter.release();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("c")).isEqualTo(AdmissionLimiter.Decision.ADMITTED);
+    }
+
+    @Test
+    void concurrencyRejectionRefundsToken() {
+        AdmissionLimiter limiter = limiter(new AdmissionProperties.Limit(1, 2, 1));
+
+        assertThat(limiter.tryAcquire("a")).isEqualTo(AdmissionLimiter.Decision.ADMITTED);
+        // 동시 처리 상한에 걸린 요청은 처리되지 않았으므로 토큰을 쓰지 않음
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a")).isEqualTo(AdmissionLimiter.Decision.CONCURRENCY_LIMITED);
+        }
+
+        limiter.release();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(AdmissionLimiter.Decision.ADMITTED);
+        limiter.release();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(AdmissionLimiter.Decision.RATE_LIMITED);
+    }
+
+    private AdmissionLimiter limiter(AdmissionProperties.Limit limit) {
+        return new AdmissionLimiter(limit, Duration.ofMinutes(10), 100, clock::get);
+    }
+}
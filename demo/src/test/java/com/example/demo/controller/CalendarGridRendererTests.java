@@ -0,0 +1,95 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.IContext;
+
+import com.example.demo.dto.CalendarMonthDto;
+import com.example.demo.service.ScheduleMonthCache;
+import com.example.demo.service.ScheduleService;
+
+class CalendarGridRendererTests {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    private ITemplateEngine templateEngine;
+    private ScheduleMonthCache monthCache;
+    private CalendarGridRenderer renderer;
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ScheduleService scheduleService = mock(ScheduleService.class);
+        when(scheduleService.getCalendarMonth(anyInt(), anyInt(), any())).thenReturn(mock(CalendarMonthDto.class));
+        templateEngine = mock(ITemplateEngine.class);
+        doAnswer(invocation -> "grid-" + renders.incrementAndGet())
+                .when(templateEngine).process(anyString(), any(IContext.class));
+        monthCache = new ScheduleMonthCache(120, Duration.ofMinutes(10));
+        renderer = new CalendarGridRenderer(scheduleService, templateEngine, monthCache, true, 60,
+                Duration.ofMinutes(10));
+    }
+
+    @Test
+    void cachesUntilMonthIsEvicted() {
+        assertThat(render()).isEqualTo("grid-1");
+        assertThat(render()).isEqualTo("grid-1");
+
+        monthCache.evict(MARCH.plusMonths(1));
+        assertThat(render()).isEqualTo("grid-1");
+
+        monthCache.evict(MARCH);
+        assertThat(render()).isEqualTo("grid-2");
+
+        monthCache.evictAll();
+        assertThat(render()).isEqualTo("grid-3");
+    }
+
+    @Test
+    void evictionDuringRenderDropsResult() throws Exception {
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (renders.incrementAndGet() == 1) {
+                rendering.countDown();
+                assertThat(evicted.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            return "grid-" + renders.get();
+        }).when(templateEngine).process(anyString(), any(IContext.class));
+
+        // 렌더링 중인 항목은 아직 캐시에 없어 무효화 시점에 지울 수 없음
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(this::render);
+        assertThat(rendering.await(10, TimeUnit.SECONDS)).isTrue();
+        monthCache.evict(MARCH);
+        evicted.countDown();
+
+        assertThat(inFlight.get(10, TimeUnit.SECONDS)).isEqualTo("grid-1");
+        // 무효화 전에 시작한 렌더링 결과는 보관하지 않고 다시 렌더링
+        assertThat(render()).isEqualTo("grid-2");
+        assertThat(render()).isEqualTo("grid-2");
+        verify(templateEngine, times(2)).process(anyString(), any(IContext.class));
+    }
+
+    private String render() {
+        return renderer.render(MARCH, new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.dto.PostDto;
+import com.example.demo.entity.Post;
+import com.example.demo.service.PostService;
+import com.example.demo.service.PostViewCounter;
+
+/**
+ * 게시글 상세의 ETag 재검증(304)과 조회수 누적 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void unchangedPostIsNotModifiedAndStillCountsView() throws Exception {
+        PostDto dto = new PostDto();
+        dto.setTitle("ETag 확인");
+        dto.setAuthor("홍길동");
+        dto.setContent("본문");
+        Post post = postService.createPost(dto);
+
+        String etag = mockMvc.perform(get("/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/posts/{id}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 주기 반영이 끼어들 수 있으므로 DB 반영분과 누적분을 합쳐 확인
+        assertThat(viewsInDatabase(post.getId()) + postViewCounter.pendingViews(post.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void missingPostIsNotFoundWithoutETagOrViewCount() throws Exception {
+        long missingId = 999_999_999L;
+        String guessedEtag = mockMvc.perform(get("/posts"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/posts/{id}", missingId).header(HttpHeaders.IF_NONE_MATCH, guessedEtag))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        assertThat(postViewCounter.pendingViews(missingId)).isZero();
+    }
+
+    private long viewsInDatabase(Long id) {
+        return jdbcTemplate.queryForObject("SELECT views FROM posts WHERE id = ?", Long.class, id);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 잘못된 요청이 500이 아닌 400/404로 끝나는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ErrorPathTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void outOfRangeMonthIsBadRequest() throws Exception {
+        mockMvc.perform(get("/schedules").param("year", "2025").param("month", "13"))
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("error/400"));
+        mockMvc.perform(get("/schedules/api/monthly").param("year", "2025").param("month", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/schedules/api/statistics").param("year", "2025").param("month", "99"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/schedules/api/months").param("year", "2025").param("month", "13"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/schedules/grid").param("year", "2025").param("month", "13"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void outOfRangeYearIsBadRequest() throws Exception {
+        mockMvc.perform(get("/schedules/api/yearly").param("year", "100000"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/schedules/api/yearly").param("year", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/schedules/api/yearly").param("year", "-5"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/schedules/api/yearly").param("year", "abc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void malformedDateIsBadRequest() throws Exception {
+        mockMvc.perform(get("/schedules/daily/2025-13-45"))
+                .andExpect(status().isBadRequest())
+                .andExpect(view().name("error/400"));
+    }
+
+    @Test
+    void missingResourcesAreNotFound() throws Exception {
+        mockMvc.perform(get("/posts/999999999"))
+                .andExpect(status().isNotFound())
+                .andExpect(view().name("error/404"));
+        mockMvc.perform(get("/schedules/999999999/edit"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void endTimeBeforeStartTimeIsFieldError() throws Exception {
+        mockMvc.perform(post("/schedules")
+                        .param("teamName", "검증팀")
+                        .param("scheduleDate", "2025-03-03")
+                        .param("startTime", "11:00")
+                        .param("endTime", "10:00"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("schedules/form"))
+                .andExpect(model().attributeHasFieldErrors("schedule", "endTime"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.dto.PostCursor;
+import com.example.demo.dto.PostDto;
+import com.example.demo.dto.PostListPage;
+import com.example.demo.dto.PostSummaryDto;
+import com.example.demo.service.PostService;
+
+/**
+ * 게시글 목록의 커서 페이지가 빠짐/중복 없이 최신순으로 이어지고, 페이지 크기가 유지되는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostListPaginationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void cursorPagesCoverAllPostsOnceInLatestOrder() {
+        for (int i = 0; i < 7; i++) {
+            postService.createPost(postDto("커서 페이지 " + i));
+        }
+
+        List<PostSummaryDto> seen = new ArrayList<>();
+        PostListPage page = postService.getPostPage(null, 3);
+        seen.addAll(page.getPosts());
+        while (page.hasNext()) {
+            assertThat(page.getPosts()).hasSize(3);
+            page = postService.getPostPage(PostCursor.parse(page.getNextCursor()), 3);
+            seen.addAll(page.getPosts());
+        }
+
+        assertThat(seen).extracting(PostSummaryDto::getId).doesNotHaveDuplicates();
+        assertThat(seen).hasSize(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Integer.class));
+        assertThat(seen).isSortedAccordingTo(Comparator.comparing(PostSummaryDto::getCreatedAt)
+                .thenComparing(PostSummaryDto::getId).reversed());
+    }
+
+    @Test
+    void clampsPageSizeAndKeepsItInSearchLinks() throws Exception {
+        mockMvc.perform(get("/posts").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("size", 100));
+        mockMvc.perform(get("/posts").param("size", "0"))
+                .andExpect(model().attribute("size", 1));
+
+        for (int i = 0; i < 6; i++) {
+            postService.createPost(postDto("크기유지검색 " + i));
+        }
+        mockMvc.perform(get("/posts").param("keyword", "크기유지검색").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("page=1&amp;size=5")));
+    }
+
+    private static PostDto postDto(String title) {
+        PostDto dto = new PostDto();
+        dto.setTitle(title);
+        dto.setAuthor("작성자");
+        dto.setContent("본문");
+        return dto;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.service.ScheduleMonthCache;
+import com.example.demo.service.ScheduleService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 여러 월 일괄 조회 API, 이웃 월 미리 읽기, 쓰기 시 해당 월만 캐시에서 비우는지 확인
+ * - 미리 읽기가 다른 테스트의 월을 채우지 않도록 테스트마다 떨어진 월을 사용
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ScheduleMonthsApiTests {
+
+    private static final int YEAR = 2093;
+    private static final Duration PREFETCH_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ScheduleMonthCache monthCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void returnsEachRequestedMonthKeyedByYearMonth() throws Exception {
+        create(LocalDate.of(YEAR, 1, 20));
+        create(LocalDate.of(YEAR, 3, 5));
+
+        String body = mockMvc.perform(get("/schedules/api/months")
+                        .param("year", String.valueOf(YEAR))
+                        .param("month", "1")
+                        .param("count", "3"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        Map<String, List<ScheduleResponseDto>> months = objectMapper.readValue(body, new TypeReference<>() { });
+        assertThat(months).containsOnlyKeys(YEAR + "-01", YEAR + "-02", YEAR + "-03");
+        assertThat(months.get(YEAR + "-01")).extracting(ScheduleResponseDto::getScheduleDate)
+                .containsExactly(LocalDate.of(YEAR, 1, 20));
+        assertThat(months.get(YEAR + "-02")).isEmpty();
+        assertThat(months.get(YEAR + "-03")).extracting(ScheduleResponseDto::getScheduleDate)
+                .containsExactly(LocalDate.of(YEAR, 3, 5));
+    }
+
+    @Test
+    void rejectsCountOutsideRange() throws Exception {
+        mockMvc.perform(get("/schedules/api/months")
+                        .param("year", String.valueOf(YEAR))
+                        .param("month", "1")
+                        .param("count", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/schedules/api/months")
+                        .param("year", String.valueOf(YEAR))
+                        .param("month", "13"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void monthlyReadPrefetchesNeighbouringMonths() throws Exception {
+        YearMonth june = YearMonth.of(YEAR, 6);
+
+        mockMvc.perform(get("/schedules/api/monthly")
+                        .param("year", String.valueOf(YEAR))
+                        .param("month", "6"))
+                .andExpect(status().isOk());
+
+        // 미리 읽기는 요청 스레드를 기다리게 하지 않으므로 백그라운드 로드가 끝날 때까지 대기
+        long deadline = System.nanoTime() + PREFETCH_TIMEOUT.toNanos();
+        while (!(monthCache.contains(june.minusMonths(1)) && monthCache.contains(june.plusMonths(1)))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(monthCache.contains(june.minusMonths(1))).isTrue();
+        assertThat(monthCache.contains(june.plusMonths(1))).isTrue();
+    }
+
+    @Test
+    void writeEvictsOnlyAffectedMonth() {
+        YearMonth october = YearMonth.of(YEAR, 10);
+        YearMonth november = YearMonth.of(YEAR, 11);
+        scheduleService.getSchedulesByMonths(october, november);
+        assertThat(monthCache.contains(october)).isTrue();
+        assertThat(monthCache.contains(november)).isTrue();
+
+        create(november.atDay(15));
+
+        assertThat(monthCache.contains(october)).isTrue();
+        assertThat(monthCache.contains(november)).isFalse();
+        assertThat(scheduleService.getSchedulesByMonth(YEAR, 11)).extracting(ScheduleResponseDto::getScheduleDate)
+                .containsExactly(november.atDay(15));
+    }
+
+    private void create(LocalDate date) {
+        scheduleService.createSchedule(ScheduleRequestDto.builder()
+                .teamName("월묶음팀")
+                .scheduleDate(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(10, 0))
+                .build());
+    }
+}
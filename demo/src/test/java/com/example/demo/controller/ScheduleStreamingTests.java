@@ -0,0 +1,131 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.service.ScheduleService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 기간/연간 스트리밍 API가 JSON 배열과 NDJSON으로 기간 안의 일정만 순서대로 보내는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ScheduleStreamingTests {
+
+    private static final int YEAR = 2095;
+    private static final String TEAM = "스트리밍팀";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 테스트 메서드마다 새 인스턴스가 만들어지므로 한 번만 등록하도록 정적 필드로 기록
+    private static boolean seeded;
+
+    @BeforeEach
+    void setUp() {
+        if (seeded) {
+            return;
+        }
+        seeded = true;
+        create(TEAM, LocalDate.of(YEAR, 1, 10), LocalTime.of(10, 0));
+        create(TEAM, LocalDate.of(YEAR, 1, 10), LocalTime.of(9, 0));
+        create("스트리밍다른팀", LocalDate.of(YEAR, 6, 1), LocalTime.of(9, 0));
+        create(TEAM, LocalDate.of(YEAR + 1, 1, 1), LocalTime.of(9, 0));
+    }
+
+    @Test
+    void streamsRangeAsJsonArrayInDateAndTimeOrder() throws Exception {
+        String body = stream(get("/schedules/api/range")
+                .param("from", YEAR + "-01-01")
+                .param("to", YEAR + "-12-31"), MediaType.APPLICATION_JSON_VALUE);
+
+        List<ScheduleResponseDto> schedules = objectMapper.readValue(body, new TypeReference<>() { });
+        assertThat(schedules)
+                .extracting(ScheduleResponseDto::getScheduleDate, ScheduleResponseDto::getStartTime)
+                .containsExactly(
+                        tuple(LocalDate.of(YEAR, 1, 10), LocalTime.of(9, 0)),
+                        tuple(LocalDate.of(YEAR, 1, 10), LocalTime.of(10, 0)),
+                        tuple(LocalDate.of(YEAR, 6, 1), LocalTime.of(9, 0)));
+    }
+
+    @Test
+    void streamsYearForTeamAsNdjson() throws Exception {
+        String body = stream(get("/schedules/api/yearly")
+                .param("year", String.valueOf(YEAR))
+                .param("teamName", TEAM)
+                .param("format", "ndjson"), "application/x-ndjson");
+
+        List<String> lines = Arrays.stream(body.split("\n")).filter(line -> !line.isBlank()).toList();
+        assertThat(lines).hasSize(2);
+        for (String line : lines) {
+            ScheduleResponseDto schedule = objectMapper.readValue(line, ScheduleResponseDto.class);
+            assertThat(schedule.getTeamName()).isEqualTo(TEAM);
+            assertThat(schedule.getScheduleDate().getYear()).isEqualTo(YEAR);
+        }
+    }
+
+    @Test
+    void unknownTeamStreamsEmptyArray() throws Exception {
+        String body = stream(get("/schedules/api/yearly")
+                .param("year", String.valueOf(YEAR))
+                .param("teamName", "없는스트리밍팀"), MediaType.APPLICATION_JSON_VALUE);
+
+        assertThat(objectMapper.readTree(body).size()).isZero();
+    }
+
+    @Test
+    void reversedRangeIsBadRequest() throws Exception {
+        mockMvc.perform(get("/schedules/api/range").param("from", YEAR + "-02-01").param("to", YEAR + "-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String stream(MockHttpServletRequestBuilder requestBuilder, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private void create(String teamName, LocalDate date, LocalTime startTime) {
+        scheduleService.createSchedule(ScheduleRequestDto.builder()
+                .teamName(teamName)
+                .scheduleDate(date)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .build());
+    }
+}
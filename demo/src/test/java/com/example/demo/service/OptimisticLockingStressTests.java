@@ -0,0 +1,178 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.dto.PostDto;
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.entity.Post;
+import com.example.demo.exception.UpdateConflictException;
+import com.example.demo.support.ConcurrentBurst;
+
+/**
+ * 같은 게시글/일정을 여러 스레드가 동시에 수정해도 갱신이 유실되지 않는지 확인
+ * - 각 스레드는 읽은 버전을 실어 수정하고, 충돌하면 다시 읽어 재시도
+ */
+@SpringBootTest
+class OptimisticLockingStressTests {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticLockingStressTests.class);
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 25;
+    private static final int TOTAL_UPDATES = THREADS * UPDATES_PER_THREAD;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Test
+    void concurrentPostUpdatesAreNotLost() throws Exception {
+        Post created = postService.createPost(postDto(null, "0", -1));
+        Long id = created.getId();
+
+        hammer("post", thread -> {
+            Post current = postService.getPostById(id);
+            int next = Integer.parseInt(current.getTitle()) + 1;
+            postService.updatePost(id, postDto(current.getVersion(), String.valueOf(next), thread));
+            return current.getVersion();
+        });
+
+        Post updated = postService.getPostById(id);
+        assertThat(updated.getTitle()).isEqualTo(String.valueOf(TOTAL_UPDATES));
+        assertThat(updated.getVersion() - created.getVersion()).isEqualTo(TOTAL_UPDATES);
+    }
+
+    @Test
+    void concurrentPostUpdatesKeepFlushedViews() throws Exception {
+        Post created = postService.createPost(postDto(null, "0", -1));
+        Long id = created.getId();
+
+        // 수정과 함께 조회수를 계속 누적/반영 (조회수는 @Version을 거치지 않는 UPDATE로 반영)
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger views = new AtomicInteger();
+        CompletableFuture<Void> viewer = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                postViewCounter.increment(id);
+                views.incrementAndGet();
+                postViewCounter.flush();
+            }
+        });
+        try {
+            hammer("post+views", thread -> {
+                Post current = postService.getPostById(id);
+                int next = Integer.parseInt(current.getTitle()) + 1;
+                postService.updatePost(id, postDto(current.getVersion(), String.valueOf(next), thread));
+                return current.getVersion();
+            });
+        } finally {
+            running.set(false);
+            viewer.join();
+        }
+        postViewCounter.flush();
+
+        assertThat(postService.getPostById(id).getTitle()).isEqualTo(String.valueOf(TOTAL_UPDATES));
+        assertThat(views.get()).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT views FROM posts WHERE id = ?", Integer.class, id))
+                .isEqualTo(views.get());
+    }
+
+    @Test
+    void concurrentScheduleUpdatesAreNotLost() throws Exception {
+        ScheduleResponseDto created = scheduleService.createSchedule(scheduleDto(null, "홍길동, 김철수", -1));
+        Long id = created.getId();
+
+        hammer("schedule", thread -> {
+            ScheduleResponseDto current = scheduleService.getScheduleById(id);
+            // 팀원 구성은 그대로 두고 표기 순서만 바꿔 매 수정이 실제 변경이 되도록 함
+            String members = current.getVersion() % 2 == 0 ? "김철수, 홍길동" : "홍길동, 김철수";
+            scheduleService.updateSchedule(id, scheduleDto(current.getVersion(), members, thread));
+            return current.getVersion();
+        });
+
+        ScheduleResponseDto updated = scheduleService.getScheduleById(id);
+        assertThat(updated.getVersion() - created.getVersion()).isEqualTo(TOTAL_UPDATES);
+    }
+
+    /**
+     * 스레드마다 UPDATES_PER_THREAD번 수정에 성공할 때까지 반복
+     * - 성공한 수정이 기준으로 삼은 버전은 모두 달라야 함 (같으면 갱신 유실)
+     * - 스레드마다 내용을 다르게 하여 같은 내용 재저장(충돌 아님)으로 처리되지 않도록 함
+     */
+    private void hammer(String name, VersionedUpdate update) throws Exception {
+        Set<Long> baseVersions = ConcurrentHashMap.newKeySet();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        long began = System.nanoTime();
+        ConcurrentBurst.run(THREADS, Duration.ofSeconds(60), thread -> {
+            int done = 0;
+            while (done < UPDATES_PER_THREAD) {
+                try {
+                    assertThat(baseVersions.add(update.apply(thread))).isTrue();
+                    done++;
+                } catch (UpdateConflictException e) {
+                    conflicts.incrementAndGet();
+                }
+            }
+            return null;
+        });
+        double seconds = (System.nanoTime() - began) / 1_000_000_000.0;
+        log.info("{}: {} updates by {} threads, {} conflicts, {} updates/s",
+                name, TOTAL_UPDATES, THREADS, conflicts.get(), Math.round(TOTAL_UPDATES / seconds));
+
+        assertThat(baseVersions).hasSize(TOTAL_UPDATES);
+    }
+
+    private static PostDto postDto(Long version, String title, int thread) {
+        PostDto dto = new PostDto();
+        dto.setVersion(version);
+        dto.setTitle(title);
+        dto.setAuthor("stress");
+        dto.setContent("optimistic locking #" + thread);
+        return dto;
+    }
+
+    private static ScheduleRequestDto scheduleDto(Long version, String members, int thread) {
+        return ScheduleRequestDto.builder()
+                .version(version)
+                .teamName("동시수정" + thread)
+                .teamMembers(members)
+                .scheduleDate(LocalDate.of(2099, 1, 1))
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface VersionedUpdate {
+
+        /**
+         * @return 수정 기준으로 삼은 버전
+         */
+        Long apply(int thread);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.example.demo.entity.Post;
+import com.example.demo.repository.PostRepository;
+
+/**
+ * n-gram 교집합으로 찾은 후보 중 검색어가 실제로 이어져 있는 게시글만 남는지 확인
+ */
+class PostSearchIndexTests {
+
+    private static final Set<PostSearchField> ALL_FIELDS = EnumSet.allOf(PostSearchField.class);
+
+    private final PostSearchIndex index = new PostSearchIndex(mock(PostRepository.class));
+
+    @Test
+    void dropsCandidatesWithScatteredGrams() {
+        index.index(post(1L, "가나다 모임", "작성자", "본문"));
+        // "가나"와 "나다"를 모두 포함하지만 "가나다"는 없음
+        index.index(post(2L, "가나 나다", "작성자", "본문"));
+        // 2-gram이 서로 다른 필드에 흩어져 있음
+        index.index(post(3L, "가나", "나다", "본문"));
+
+        assertThat(search("가나다", ALL_FIELDS)).containsExactly(1L);
+        assertThat(search("가나", ALL_FIELDS)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void matchesEachQueryTermInSelectedFieldsOnly() {
+        index.index(post(1L, "Spring 스터디", "홍길동", "일정 공유"));
+        index.index(post(2L, "스터디", "홍길동", "spring 일정"));
+
+        // 검색어 구간마다 필드가 달라도 되지만, 구간 자체는 이어져 있어야 함
+        assertThat(search("spring 일정", ALL_FIELDS)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(search("spring 일정", EnumSet.of(PostSearchField.TITLE))).isEmpty();
+        assertThat(search("SPRING", EnumSet.of(PostSearchField.TITLE))).containsExactly(1L);
+
+        // 수정/삭제 후에는 새 본문 기준으로 확인
+        index.index(post(1L, "Spr ing 스터디", "홍길동", "일정 공유"));
+        assertThat(search("spring", ALL_FIELDS)).containsExactly(2L);
+        index.remove(2L);
+        assertThat(search("spring", ALL_FIELDS)).isEmpty();
+    }
+
+    private Iterable<Long> search(String query, Set<PostSearchField> fields) {
+        return index.search(query, fields, Pageable.unpaged()).getContent();
+    }
+
+    private static Post post(Long id, String title, String author, String content) {
+        Post post = new Post(title, author, content);
+        post.setId(id);
+        return post;
+    }
+}
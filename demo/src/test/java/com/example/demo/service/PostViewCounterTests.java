@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.example.demo.repository.PostViewCountRepository;
+import com.example.demo.support.ConcurrentBurst;
+
+/**
+ * 조회수 카운터가 반영된 누적분을 잃거나 이중으로 반영하지 않고, 쓰지 않는 카운터를 정리하는지 확인
+ */
+class PostViewCounterTests {
+
+    private final PostViewCountRepository repository = mock(PostViewCountRepository.class);
+    private final PostViewCounter counter = new PostViewCounter(repository);
+    private final Map<Long, Long> flushed = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.forEach((postId, delta) -> flushed.merge(postId, delta, Long::sum));
+            return null;
+        }).when(repository).incrementViews(anyMap());
+    }
+
+    @Test
+    void prunesCountersIdleForOneFlush() {
+        counter.increment(1L);
+        counter.increment(1L);
+        counter.increment(2L);
+
+        counter.flush();
+        assertThat(flushed).containsEntry(1L, 2L).containsEntry(2L, 1L);
+        assertThat(counter.trackedPosts()).isEqualTo(2);
+
+        // 다음 주기까지 조회가 없으면 제거, 다시 조회되면 새 카운터로 누적
+        counter.increment(2L);
+        counter.flush();
+        assertThat(counter.trackedPosts()).isEqualTo(1);
+        assertThat(counter.pendingViews(1L)).isZero();
+        assertThat(flushed).containsEntry(2L, 2L);
+
+        assertThat(counter.increment(1L)).isEqualTo(1);
+        counter.flush();
+        assertThat(flushed).containsEntry(1L, 3L);
+    }
+
+    @Test
+    void keepsViewsWhenFlushFails() {
+        counter.increment(1L);
+        doThrow(new DataAccessResourceFailureException("down")).when(repository).incrementViews(anyMap());
+        counter.flush();
+        assertThat(counter.pendingViews(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentIncrementsAndPruningLoseNoViews() throws Exception {
+        int threads = 8;
+        int viewsPerThread = 20_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                counter.flush();
+            }
+        });
+        flusher.start();
+        try {
+            // 게시글 몇 개에 조회를 드문드문 몰아 제거와 증가가 계속 겹치게 함
+            ConcurrentBurst.run(threads, Duration.ofSeconds(30), thread -> {
+                for (int i = 0; i < viewsPerThread; i++) {
+                    counter.increment((long) (i % 4));
+                }
+                return null;
+            });
+        } finally {
+            running.set(false);
+            flusher.join();
+        }
+        counter.flush();
+
+        assertThat(flushed.values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo((long) threads * viewsPerThread);
+        counter.flush();
+        assertThat(counter.trackedPosts()).isZero();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.PostDto;
+import com.example.demo.entity.Post;
+import com.example.demo.repository.PostRepository;
+
+/**
+ * 게시글 수정이 읽은 뒤에 반영된 조회수를 덮어쓰지 않는지 확인
+ */
+@SpringBootTest
+class PostViewFlushTests {
+
+    private static final int VIEWS = 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void editKeepsViewsFlushedBetweenLoadAndCommit() {
+        Long id = postService.createPost(postDto("원래 제목")).getId();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Post post = postRepository.findById(id).orElseThrow();
+            // 수정 트랜잭션이 게시글을 읽은 뒤 커밋하기 전에 다른 스레드에서 조회수 반영
+            CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < VIEWS; i++) {
+                    postViewCounter.increment(id);
+                }
+                postViewCounter.flush();
+            }).join();
+            post.setTitle("수정한 제목");
+        });
+
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM posts WHERE id = ?", String.class, id))
+                .isEqualTo("수정한 제목");
+        // 주기 반영이 끼어들 수 있으므로 DB 반영분과 누적분을 합쳐 확인
+        assertThat(jdbcTemplate.queryForObject("SELECT views FROM posts WHERE id = ?", Long.class, id)
+                + postViewCounter.pendingViews(id)).isEqualTo(VIEWS);
+    }
+
+    @Test
+    void detailIncludesPendingViews() {
+        Long id = postService.createPost(postDto("상세 조회")).getId();
+
+        assertThat(postService.getPostByIdAndIncrementViews(id).getViews()).isEqualTo(1);
+        assertThat(postService.getPostByIdAndIncrementViews(id).getViews()).isPositive();
+        postViewCounter.flush();
+        assertThat(postService.getPostById(id).getViews()).isEqualTo(2);
+    }
+
+    private static PostDto postDto(String title) {
+        PostDto dto = new PostDto();
+        dto.setTitle(title);
+        dto.setAuthor("작성자");
+        dto.setContent("본문");
+        return dto;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class RecurrenceTests {
+
+    // 2025-03-03은 월요일
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+
+    @Test
+    void expandsOnlyOccurrencesInRangeAndSkipsExceptions() {
+        Recurrence weekly = recurrence(MONDAY, null, 1, "10:00", "11:00", Set.of(MONDAY.plusWeeks(2)));
+
+        assertThat(weekly.occurrencesBetween(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)))
+                .containsExactly(MONDAY, MONDAY.plusWeeks(1), MONDAY.plusWeeks(3), MONDAY.plusWeeks(4));
+        assertThat(weekly.occursOn(MONDAY.plusWeeks(2))).isFalse();
+        assertThat(weekly.occursOn(MONDAY.plusDays(1))).isFalse();
+    }
+
+    @Test
+    void lastOccurrenceIsTheEarlierOfUntilAndCount() {
+        assertThat(Recurrence.lastOccurrence(MONDAY, MONDAY.plusDays(20), null, 2)).isEqualTo(MONDAY.plusWeeks(2));
+        assertThat(Recurrence.lastOccurrence(MONDAY, MONDAY.plusWeeks(10), 3, 1)).isEqualTo(MONDAY.plusWeeks(2));
+        assertThat(Recurrence.lastOccurrence(MONDAY, null, null, 1)).isNull();
+    }
+
+    @Test
+    void findsFirstCommonOccurrenceOfDifferentIntervals() {
+        Recurrence biweekly = recurrence(MONDAY, null, 2, "10:00", "11:00", Set.of());
+        Recurrence everyThreeWeeks = recurrence(MONDAY.plusWeeks(1), null, 3, "10:30", "11:30", Set.of());
+
+        // 격주: 0, 2, 4, ... 주 / 3주: 1, 4, 7, ... 주 → 처음 겹치는 날은 4주 뒤
+        assertThat(biweekly.firstConflict(everyThreeWeeks)).contains(MONDAY.plusWeeks(4));
+    }
+
+    @Test
+    void skippedCommonOccurrenceMovesConflictToNextPeriod() {
+        Recurrence weekly = recurrence(MONDAY, null, 1, "10:00", "11:00", Set.of(MONDAY.plusWeeks(2)));
+        Recurrence biweekly = recurrence(MONDAY.plusWeeks(2), null, 2, "10:00", "11:00", Set.of());
+
+        assertThat(weekly.firstConflict(biweekly)).contains(MONDAY.plusWeeks(4));
+    }
+
+    @Test
+    void noConflictWhenTimesDoNotOverlapOrRangesDoNotMeet() {
+        Recurrence morning = recurrence(MONDAY, null, 1, "09:00", "10:00", Set.of());
+        Recurrence afterMorning = recurrence(MONDAY, null, 1, "10:00", "11:00", Set.of());
+        Recurrence ended = recurrence(MONDAY, MONDAY.plusWeeks(1), 1, "09:00", "10:00", Set.of());
+        Recurrence later = recurrence(MONDAY.plusWeeks(2), null, 1, "09:30", "10:30", Set.of());
+
+        assertThat(morning.firstConflict(afterMorning)).isEmpty();
+        assertThat(ended.firstConflict(later)).isEmpty();
+    }
+
+    private static Recurrence recurrence(LocalDate start, LocalDate until, int weeks,
+                                         String startTime, String endTime, Set<LocalDate> exceptions) {
+        return new Recurrence(null, start, until, weeks, LocalTime.parse(startTime), LocalTime.parse(endTime),
+                exceptions);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.dto.AvailableSlotDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.repository.ScheduleRepository;
+import com.example.demo.repository.ScheduleSlotView;
+
+class ScheduleAvailabilityTests {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    private ScheduleRepository scheduleRepository;
+    private ScheduleSeriesService seriesService;
+    private ScheduleAvailabilityService availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        seriesService = mock(ScheduleSeriesService.class);
+        when(seriesService.getOccurrencesBetween(any(), any())).thenReturn(List.of());
+        availabilityService = new ScheduleAvailabilityService(scheduleRepository, seriesService);
+    }
+
+    @Test
+    void busyTimeFromSchedulesAndSeriesSplitsTheDay() {
+        when(scheduleRepository.findSlotsBetween(DAY, DAY)).thenReturn(List.of(
+                slot(DAY, LocalTime.of(9, 0), LocalTime.of(10, 30)),
+                slot(DAY, LocalTime.of(13, 0), LocalTime.of(14, 0))));
+        when(seriesService.getOccurrencesBetween(DAY, DAY)).thenReturn(List.of(
+                new ScheduleResponseDto(null, 0L, "반복팀", null, DAY,
+                        LocalTime.of(16, 0), LocalTime.of(17, 0), null, null)));
+
+        List<AvailableSlotDto> slots = availabilityService.findAvailableSlots(
+                DAY, DAY, 60, LocalTime.of(8, 0), LocalTime.of(18, 0));
+
+        // 일반 일정과 반복 일정 회차 사이의 빈 구간 (경계 시각은 빈 구간에 포함)
+        assertThat(slots).extracting(AvailableSlotDto::getStartTime, AvailableSlotDto::getEndTime)
+                .containsExactly(
+                        tuple(LocalTime.of(8, 0), LocalTime.of(9, 0)),
+                        tuple(LocalTime.of(10, 30), LocalTime.of(13, 0)),
+                        tuple(LocalTime.of(14, 0), LocalTime.of(16, 0)),
+                        tuple(LocalTime.of(17, 0), LocalTime.of(18, 0)));
+    }
+
+    @Test
+    void defaultDayEndKeepsLastMinuteOfDay() {
+        when(scheduleRepository.findSlotsBetween(DAY, DAY)).thenReturn(List.of(
+                slot(DAY, LocalTime.of(0, 0), LocalTime.of(23, 0))));
+
+        List<AvailableSlotDto> slots = availabilityService.findAvailableSlots(
+                DAY, DAY, 60, LocalTime.MIDNIGHT, null);
+
+        // 23:00부터 자정까지 60분 (dayEnd를 23:59로 두면 59분이라 빠짐)
+        assertThat(slots).singleElement().satisfies(slot -> {
+            assertThat(slot.getStartTime()).isEqualTo(LocalTime.of(23, 0));
+            assertThat(slot.getEndTime()).isEqualTo(LocalTime.MAX);
+        });
+    }
+
+    @Test
+    void emptyRangeReturnsWholeWindowPerDay() {
+        when(scheduleRepository.findSlotsBetween(any(), any())).thenReturn(List.of());
+
+        List<AvailableSlotDto> slots = availabilityService.findAvailableSlots(
+                DAY, DAY.plusDays(2), 30, LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+        assertThat(slots).extracting(AvailableSlotDto::getDate)
+                .containsExactly(DAY, DAY.plusDays(1), DAY.plusDays(2));
+    }
+
+    @Test
+    void rejectsInvalidWindow() {
+        assertThatThrownBy(() -> availabilityService.findAvailableSlots(
+                DAY, DAY, 30, LocalTime.of(18, 0), LocalTime.of(9, 0)))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> availabilityService.findAvailableSlots(
+                DAY, DAY.minusDays(1), 30, LocalTime.MIDNIGHT, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static ScheduleSlotView slot(LocalDate date, LocalTime start, LocalTime end) {
+        return new ScheduleSlotView() {
+            @Override
+            public LocalDate getScheduleDate() {
+                return date;
+            }
+
+            @Override
+            public LocalTime getStartTime() {
+                return start;
+            }
+
+            @Override
+            public LocalTime getEndTime() {
+                return end;
+            }
+        };
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.demo.dto.ScheduleImportResultDto;
+import com.example.demo.dto.ScheduleRequestDto;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 일괄 등록이 청크 단위로 저장되고, 저장 도중 날짜별 조회가 끼어들지 않는지 확인
+ */
+@SpringBootTest
+class ScheduleBulkImportTests {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2097, 1, 1);
+    private static final int DAYS = 60;
+
+    @Autowired
+    private ScheduleBulkService scheduleBulkService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void importsChunkWithoutPerDateQueries() throws Exception {
+        StringBuilder csv = new StringBuilder("teamName,teamMembers,scheduleDate,startTime,endTime\n");
+        for (int d = 0; d < DAYS; d++) {
+            LocalDate date = FIRST_DAY.plusDays(d);
+            csv.append("일괄팀,\"일괄A, 일괄B\",").append(date).append(",09:00,10:00\n");
+            csv.append("일괄팀,일괄A,").append(date).append(",10:00,11:00\n");
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long queriesBefore = statistics.getQueryExecutionCount();
+        long insertsBefore = statistics.getEntityInsertCount();
+
+        ScheduleImportResultDto result = importCsv(csv.toString());
+
+        assertThat(result.getImportedRows()).isEqualTo(DAYS * 2);
+        assertThat(result.getRejectedRows()).isZero();
+        assertThat(statistics.getEntityInsertCount() - insertsBefore).isGreaterThanOrEqualTo(DAYS * 2);
+        // 날짜마다 구간 인덱스 로드 쿼리가 나가면 DAYS건 이상 (청크 전체 날짜는 한 번에 올림)
+        assertThat(statistics.getQueryExecutionCount() - queriesBefore).isLessThan(DAYS / 4);
+    }
+
+    @Test
+    void rejectsRowsOverlappingExistingOrEarlierRows() throws Exception {
+        LocalDate date = FIRST_DAY.minusDays(1);
+        scheduleService.createSchedule(ScheduleRequestDto.builder()
+                .teamName("기존팀")
+                .scheduleDate(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(10, 0))
+                .build());
+
+        ScheduleImportResultDto result = importCsv("""
+                일괄충돌팀,,%1$s,09:30,10:30
+                일괄충돌팀,,%1$s,11:00,12:00
+                일괄충돌팀,,%1$s,11:30,12:30
+                일괄충돌팀,,%1$s,25:00,26:00
+                """.formatted(date));
+
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getImportedRows()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(ScheduleImportResultDto.RowError::getLine)
+                .containsExactlyInAnyOrder(1, 3, 4);
+        assertThat(scheduleService.getDailyDetailSchedules(date)).hasSize(2);
+    }
+
+    @Test
+    void rejectedRowsDoNotCreateTeams() throws Exception {
+        LocalDate date = FIRST_DAY.minusDays(2);
+        scheduleService.createSchedule(ScheduleRequestDto.builder()
+                .teamName("기존팀")
+                .scheduleDate(date)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(10, 0))
+                .build());
+
+        ScheduleImportResultDto result = importCsv("""
+                거부전용팀,거부전용A,%1$s,09:00,10:00
+                예약팀,예약A,%1$s,10:00,11:00
+                """.formatted(date));
+
+        assertThat(result.getImportedRows()).isEqualTo(1);
+        assertThat(teamService.findTeamId("예약팀")).isPresent();
+        assertThat(teamService.findTeamId("거부전용팀")).isEmpty();
+        assertThat(teamService.searchMembers("거부전용", 10)).isEmpty();
+    }
+
+    @Test
+    void skipsOnlyExactHeaderLine() throws Exception {
+        LocalDate date = FIRST_DAY.minusDays(3);
+
+        ScheduleImportResultDto result = importCsv("""
+                teamName스터디,,%1$s,09:00,10:00
+                teamName스터디,,%1$s,10:00,11:00
+                """.formatted(date));
+
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(importCsv(ScheduleCsv.HEADER + "\n").getTotalRows()).isZero();
+    }
+
+    private ScheduleImportResultDto importCsv(String csv) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new StringReader(csv))) {
+            return scheduleBulkService.importSchedules(reader, ScheduleTransferFormat.CSV);
+        }
+    }
+}
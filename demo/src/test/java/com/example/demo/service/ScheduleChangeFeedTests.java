@@ -0,0 +1,153 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.event.ScheduleChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 변경 피드 전송 확인
+ * - 구독 연결은 보낸 SSE 프레임을 기록하는 emitter로 바꿔 끼움 (필요하면 전송을 붙잡아 느린 클라이언트 흉내)
+ */
+class ScheduleChangeFeedTests {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+    private static final YearMonth APRIL = YearMonth.of(2025, 4);
+    private static final int MAX_SUBSCRIBERS = 4;
+
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch blockNextSubscriber;
+    private ScheduleChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new ScheduleChangeFeed(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+                60_000, MAX_SUBSCRIBERS, 16, 2) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                RecordingEmitter emitter = new RecordingEmitter(blockNextSubscriber);
+                blockNextSubscriber = null;
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void sendsOneMergedMessagePerMonthToEachSubscriber() throws Exception {
+        feed.subscribe(MARCH);
+        feed.subscribe(MARCH);
+        feed.subscribe(APRIL);
+        emitters.forEach(emitter -> emitter.expect(1));
+
+        feed.onScheduleChanged(ScheduleChangedEvent.created(schedule(1L, LocalDate.of(2025, 3, 3))));
+        feed.onScheduleChanged(ScheduleChangedEvent.created(schedule(2L, LocalDate.of(2025, 3, 4))));
+        feed.flush();
+
+        for (RecordingEmitter emitter : emitters.subList(0, 2)) {
+            assertThat(emitter.awaitFrames()).isTrue();
+            assertThat(emitter.frames).hasSize(2);
+            assertThat(emitter.frames.get(1)).contains("\"id\":1").contains("\"id\":2");
+        }
+        // 변경이 없는 달의 구독자에게는 구독 확인 외에 보내지 않음
+        assertThat(emitters.get(2).frames).noneMatch(frame -> frame.contains("\"id\""));
+    }
+
+    @Test
+    void slowSubscriberDoesNotDelayOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        blockNextSubscriber = release;
+        feed.subscribe(MARCH);
+        feed.subscribe(MARCH);
+        RecordingEmitter fast = emitters.get(1);
+        fast.expect(1);
+
+        long startedAt = System.nanoTime();
+        feed.onScheduleChanged(ScheduleChangedEvent.created(schedule(1L, LocalDate.of(2025, 3, 3))));
+        feed.flush();
+        feed.heartbeat();
+
+        // 전송을 기다리지 않고 바로 반환되고, 다른 구독자는 그대로 받음
+        assertThat(System.nanoTime() - startedAt).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(fast.awaitFrames()).isTrue();
+        assertThat(fast.frames.get(1)).contains("\"id\":1");
+        release.countDown();
+    }
+
+    @Test
+    void rejectsSubscriptionsOverLimit() {
+        for (int i = 0; i < MAX_SUBSCRIBERS; i++) {
+            assertThat(feed.subscribe(MARCH)).isPresent();
+        }
+
+        assertThat(feed.subscribe(APRIL)).isEmpty();
+        assertThat(feed.subscriberCount()).isEqualTo(MAX_SUBSCRIBERS);
+    }
+
+    private static ScheduleResponseDto schedule(Long id, LocalDate date) {
+        return new ScheduleResponseDto(id, 0L, "팀" + id, null, date,
+                LocalTime.of(10, 0), LocalTime.of(11, 0), null, null);
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch block;
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch expected = new CountDownLatch(0);
+
+        RecordingEmitter(CountDownLatch block) {
+            this.block = block;
+        }
+
+        /**
+         * 구독 확인 프레임 이후 count개 프레임을 더 기다리도록 설정
+         */
+        void expect(int count) {
+            expected = new CountDownLatch(count);
+        }
+
+        boolean awaitFrames() throws InterruptedException {
+            return expected.await(5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (block != null) {
+                try {
+                    block.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+            if (frames.size() > 1) {
+                expected.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.entity.Schedule;
+import com.example.demo.exception.InvalidRequestException;
+import com.example.demo.repository.ScheduleRepository;
+import com.example.demo.repository.ScheduleSeriesRepository;
+import com.example.demo.support.ConcurrentBurst;
+
+class ScheduleIntervalIndexTests {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+    private static final int MAX_DAYS = 8;
+    private static final int THREADS = 16;
+
+    private ScheduleRepository scheduleRepository;
+    private ScheduleIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.findByScheduleDateOrderByStartTimeAsc(any())).thenReturn(List.of(
+                schedule(1L, "10:00", "12:00"),
+                schedule(2L, "13:00", "14:00")));
+        index = new ScheduleIntervalIndex(scheduleRepository, mock(ScheduleSeriesRepository.class), MAX_DAYS);
+    }
+
+    @Test
+    void detectsOverlapWithoutQueryingAgain() {
+        assertThat(index.overlaps(DATE, time("11:00"), time("11:30"), null)).isTrue();
+        assertThat(index.overlaps(DATE, time("12:00"), time("13:00"), null)).isFalse();
+        assertThat(index.overlaps(DATE, time("09:00"), time("10:00"), null)).isFalse();
+        assertThat(index.overlaps(DATE, time("11:00"), time("11:30"), 1L)).isFalse();
+
+        verify(scheduleRepository, times(1)).findByScheduleDateOrderByStartTimeAsc(DATE);
+    }
+
+    @Test
+    void findsFirstFreeSlot() {
+        assertThat(index.findFirstFreeSlot(DATE, time("10:30"), null, Duration.ofHours(1)))
+                .contains(time("12:00"));
+        assertThat(index.findFirstFreeSlot(DATE, time("09:00"), null, Duration.ofMinutes(30)))
+                .contains(time("09:00"));
+        assertThat(index.findFirstFreeSlot(DATE, time("10:00"), time("13:30"), Duration.ofHours(2)))
+                .isEmpty();
+    }
+
+    @Test
+    void rejectsConflictingBooking() {
+        assertThatThrownBy(() -> index.book(DATE, time("13:30"), time("15:00"), null,
+                () -> schedule(3L, "13:30", "15:00")))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage(ScheduleIntervalIndex.OVERLAP_MESSAGE);
+
+        index.book(DATE, time("14:00"), time("15:00"), null, () -> schedule(3L, "14:00", "15:00"));
+        assertThat(index.overlaps(DATE, time("14:30"), time("14:45"), null)).isTrue();
+
+        index.release(DATE, 3L);
+        assertThat(index.overlaps(DATE, time("14:30"), time("14:45"), null)).isFalse();
+    }
+
+    @Test
+    void concurrentFirstReadsLoadDayOnce() throws Exception {
+        AtomicInteger started = new AtomicInteger();
+        when(scheduleRepository.findByScheduleDateOrderByStartTimeAsc(any())).thenAnswer(invocation -> {
+            // 나머지 요청이 모두 출발할 때까지 로드를 붙잡아 둠
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (started.get() < THREADS && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            Thread.sleep(20);
+            return List.of(schedule(1L, "10:00", "12:00"));
+        });
+
+        List<Boolean> results = ConcurrentBurst.run(THREADS, Duration.ofSeconds(10), thread -> {
+            started.incrementAndGet();
+            return index.overlaps(DATE, time("11:00"), time("11:30"), null);
+        });
+
+        assertThat(results).containsOnly(true);
+        verify(scheduleRepository, times(1)).findByScheduleDateOrderByStartTimeAsc(DATE);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedDaysOverMaxDays() {
+        for (int d = 0; d < MAX_DAYS; d++) {
+            index.overlaps(DATE.plusDays(d), time("09:00"), time("09:30"), null);
+        }
+        // 첫 날짜는 최근에 다시 사용
+        index.overlaps(DATE, time("09:00"), time("09:30"), null);
+        index.overlaps(DATE.plusDays(MAX_DAYS), time("09:00"), time("09:30"), null);
+
+        assertThat(index.loadedDays()).isLessThanOrEqualTo(MAX_DAYS);
+        index.overlaps(DATE, time("11:00"), time("11:30"), null);
+        verify(scheduleRepository, times(1)).findByScheduleDateOrderByStartTimeAsc(DATE);
+
+        // 내린 날짜는 다음 사용 시 다시 로드
+        index.overlaps(DATE.plusDays(1), time("09:00"), time("09:30"), null);
+        verify(scheduleRepository, times(2)).findByScheduleDateOrderByStartTimeAsc(DATE.plusDays(1));
+    }
+
+    @Test
+    void keepsDaysWithUncommittedBookings() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.book(DATE, time("14:00"), time("15:00"), null, () -> schedule(3L, "14:00", "15:00"));
+            for (int d = 1; d <= MAX_DAYS * 2; d++) {
+                index.overlaps(DATE.plusDays(d), time("09:00"), time("09:30"), null);
+            }
+
+            // 커밋 전 예약은 DB에 없으므로 날짜가 내려가면 겹치는 등록을 놓침
+            assertThat(index.overlaps(DATE, time("14:30"), time("14:45"), null)).isTrue();
+            verify(scheduleRepository, times(1)).findByScheduleDateOrderByStartTimeAsc(DATE);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Schedule schedule(Long id, String start, String end) {
+        return Schedule.builder()
+                .id(id)
+                .teamName("밴드" + id)
+                .scheduleDate(DATE)
+                .startTime(time(start))
+                .endTime(time(end))
+                .build();
+    }
+
+    private static LocalTime time(String value) {
+        return LocalTime.parse(value);
+    }
+}
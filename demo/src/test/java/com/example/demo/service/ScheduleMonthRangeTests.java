@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.repository.ScheduleRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 여러 월 조회가 캐시에 없는 월만 한 번에 로드하는지 확인
+ * - 조회 서비스와 월 캐시, 병합기만 올리고 나머지 의존성은 목으로 대체
+ */
+@SpringBootTest(classes = {ScheduleServiceImpl.class, ScheduleMonthCache.class, ScheduleReadCoalescer.class,
+        SimpleMeterRegistry.class})
+class ScheduleMonthRangeTests {
+
+    private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+    private static final YearMonth APRIL = YearMonth.of(2025, 4);
+
+    @MockitoBean
+    private ScheduleRepository scheduleRepository;
+    @MockitoBean
+    private ScheduleIntervalIndex intervalIndex;
+    @MockitoBean
+    private TeamService teamService;
+    @MockitoBean
+    private OptimisticRetry optimisticRetry;
+    @MockitoBean
+    private ScheduleSeriesService seriesService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private ScheduleMonthCache monthCache;
+
+    @BeforeEach
+    void setUp() {
+        monthCache.evictAll();
+        when(scheduleRepository.findResponsesBetween(any(), any())).thenReturn(List.of(
+                schedule(1L, LocalDate.of(2025, 2, 10)),
+                schedule(2L, LocalDate.of(2025, 3, 5)),
+                schedule(3L, LocalDate.of(2025, 4, 20))));
+        when(scheduleRepository.findResponsesBetween(MARCH.atDay(1), MARCH.atEndOfMonth())).thenReturn(List.of(
+                schedule(2L, LocalDate.of(2025, 3, 5))));
+    }
+
+    @Test
+    void loadsUncachedMonthsWithOneRangeQuery() {
+        Map<YearMonth, List<ScheduleResponseDto>> months = scheduleService.getSchedulesByMonths(FEBRUARY, APRIL);
+
+        assertThat(months).containsOnlyKeys(FEBRUARY, MARCH, APRIL);
+        assertThat(months.get(FEBRUARY)).extracting(ScheduleResponseDto::getId).containsExactly(1L);
+        assertThat(months.get(MARCH)).extracting(ScheduleResponseDto::getId).containsExactly(2L);
+        assertThat(months.get(APRIL)).extracting(ScheduleResponseDto::getId).containsExactly(3L);
+        verify(scheduleRepository, times(1)).findResponsesBetween(FEBRUARY.atDay(1), APRIL.atEndOfMonth());
+
+        // 한 번에 로드한 월은 단건 월 조회에서 캐시로 처리
+        scheduleService.getSchedulesByMonth(MARCH.getYear(), MARCH.getMonthValue());
+        verify(scheduleRepository, never()).findResponsesBetween(MARCH.atDay(1), MARCH.atEndOfMonth());
+    }
+
+    @Test
+    void skipsCachedMonthsInRange() {
+        scheduleService.getSchedulesByMonth(MARCH.getYear(), MARCH.getMonthValue());
+
+        Map<YearMonth, List<ScheduleResponseDto>> months = scheduleService.getSchedulesByMonths(FEBRUARY, APRIL);
+
+        // 사이 월(3월)은 캐시된 결과를 그대로 쓰고, 캐시에 없는 2월과 4월만 각각 조회
+        assertThat(months.get(FEBRUARY)).extracting(ScheduleResponseDto::getId).containsExactly(1L);
+        assertThat(months.get(MARCH)).extracting(ScheduleResponseDto::getId).containsExactly(2L);
+        assertThat(months.get(APRIL)).extracting(ScheduleResponseDto::getId).containsExactly(3L);
+        verify(scheduleRepository, times(1)).findResponsesBetween(FEBRUARY.atDay(1), FEBRUARY.atEndOfMonth());
+        verify(scheduleRepository, times(1)).findResponsesBetween(APRIL.atDay(1), APRIL.atEndOfMonth());
+        verify(scheduleRepository, never()).findResponsesBetween(FEBRUARY.atDay(1), APRIL.atEndOfMonth());
+    }
+
+    @Test
+    void evictionDuringLoadDropsOnlyEvictedMonth() {
+        monthCache.get(MARCH, List::of);
+
+        // 2월/4월을 로드하는 동안 2월에 쓰기가 커밋됨
+        monthCache.getAll(List.of(FEBRUARY, MARCH, APRIL), months -> {
+            monthCache.evict(FEBRUARY);
+            return Map.of(FEBRUARY, List.of(), APRIL, List.of());
+        });
+
+        assertThat(monthCache.contains(FEBRUARY)).isFalse();
+        assertThat(monthCache.contains(MARCH)).isTrue();
+        assertThat(monthCache.contains(APRIL)).isTrue();
+    }
+
+    private static ScheduleResponseDto schedule(Long id, LocalDate date) {
+        return new ScheduleResponseDto(id, 0L, "팀" + id, null, date,
+                LocalTime.of(10, 0), LocalTime.of(11, 0), null, null);
+    }
+}
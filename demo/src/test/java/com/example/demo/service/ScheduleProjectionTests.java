@@ -0,0 +1,101 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.entity.Schedule;
+import com.example.demo.repository.ScheduleRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 조회 화면용 쿼리가 엔티티를 영속성 컨텍스트에 올리지 않고 DTO를 바로 만드는지,
+ * 남아 있는 엔티티 조회는 읽기 전용(스냅샷 없음)으로 적재되는지 확인
+ */
+@SpringBootTest
+class ScheduleProjectionTests {
+
+    private static final LocalDate DATE = LocalDate.of(2092, 7, 14);
+    private static final LocalDate ENTITY_DATE = LocalDate.of(2092, 8, 14);
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void responseQueriesDoNotManageEntities() {
+        ScheduleResponseDto created = scheduleService.createSchedule(request("투영팀", DATE, LocalTime.of(9, 0)));
+        scheduleService.createSchedule(request("투영팀", DATE, LocalTime.of(13, 0)));
+
+        readOnly().executeWithoutResult(status -> {
+            List<ScheduleResponseDto> month = scheduleRepository.findResponsesBetween(
+                    DATE.withDayOfMonth(1), DATE.withDayOfMonth(DATE.lengthOfMonth()));
+            List<ScheduleResponseDto> day = scheduleRepository.findResponsesByDate(DATE);
+            ScheduleResponseDto detail = scheduleRepository.findResponseById(created.getId()).orElseThrow();
+
+            assertThat(month).extracting(ScheduleResponseDto::getStartTime)
+                    .containsExactly(LocalTime.of(9, 0), LocalTime.of(13, 0));
+            assertThat(day).usingRecursiveFieldByFieldElementComparator().isEqualTo(month);
+            // 저장 시각은 DB 정밀도로 잘릴 수 있으므로 제외
+            assertThat(detail).usingRecursiveComparison().ignoringFields("createdAt", "updatedAt")
+                    .isEqualTo(created);
+            assertThat(managedSchedules()).isEmpty();
+        });
+    }
+
+    @Test
+    void remainingEntityReadsAreReadOnly() {
+        scheduleService.createSchedule(request("읽기전용팀", ENTITY_DATE, LocalTime.of(17, 0)));
+
+        // 읽기 전용 트랜잭션은 세션 전체가 읽기 전용이 되므로 쿼리 힌트만 확인하도록 일반 트랜잭션에서 조회
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<Schedule> schedules = scheduleRepository.findByScheduleDateOrderByStartTimeAsc(ENTITY_DATE);
+
+            assertThat(schedules).isNotEmpty();
+            Session session = entityManager.unwrap(Session.class);
+            assertThat(schedules).allSatisfy(schedule -> assertThat(session.isReadOnly(schedule)).isTrue());
+        });
+    }
+
+    private List<EntityKey> managedSchedules() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+                .filter(key -> key.getEntityName().equals(Schedule.class.getName()))
+                .toList();
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private static ScheduleRequestDto request(String teamName, LocalDate date, LocalTime startTime) {
+        return ScheduleRequestDto.builder()
+                .teamName(teamName)
+                .scheduleDate(date)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(2))
+                .build();
+    }
+}
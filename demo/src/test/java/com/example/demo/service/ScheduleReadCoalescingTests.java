@@ -0,0 +1,154 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.repository.ScheduleRepository;
+import com.example.demo.support.ConcurrentBurst;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 같은 월/날짜를 동시에 조회하면 DB 조회가 한 번만 실행되는지 확인
+ * - 조회 서비스와 월 캐시, 병합기만 올리고 나머지 의존성은 목으로 대체
+ * - 첫 조회는 나머지 요청이 모두 출발할 때까지 끝나지 않도록 붙잡아 둠
+ */
+@SpringBootTest(classes = {ScheduleServiceImpl.class, ScheduleMonthCache.class, ScheduleReadCoalescer.class,
+        SimpleMeterRegistry.class})
+class ScheduleReadCoalescingTests {
+
+    private static final int THREADS = 32;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 3);
+
+    @MockitoBean
+    private ScheduleRepository scheduleRepository;
+    @MockitoBean
+    private ScheduleIntervalIndex intervalIndex;
+    @MockitoBean
+    private TeamService teamService;
+    @MockitoBean
+    private OptimisticRetry optimisticRetry;
+    @MockitoBean
+    private ScheduleSeriesService seriesService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+    @Autowired
+    private ScheduleMonthCache monthCache;
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    private final AtomicInteger queries = new AtomicInteger();
+    private final AtomicInteger started = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        monthCache.evictAll();
+    }
+
+    @Test
+    void concurrentMonthReadsRunOneQueryPerBurst() throws Exception {
+        when(scheduleRepository.findResponsesBetween(any(), any()))
+                .thenAnswer(invocation -> slowQuery(() -> started.get() >= THREADS * queries.get()));
+
+        List<List<ScheduleResponseDto>> first = burst(
+                () -> scheduleService.getSchedulesByMonth(MONTH.getYear(), MONTH.getMonthValue()));
+        assertThat(queries).hasValue(1);
+        assertThat(first).allSatisfy(result -> assertThat(result).isSameAs(first.get(0)));
+
+        // 캐시를 비운 뒤의 다음 동시 조회도 월 캐시가 한 번만 로드
+        monthCache.evict(MONTH);
+        burst(() -> scheduleService.getSchedulesByMonth(MONTH.getYear(), MONTH.getMonthValue()));
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    void concurrentDayReadsRunOneQueryPerBurst() throws Exception {
+        double sharedBefore = shared();
+        when(scheduleRepository.findResponsesByDate(any())).thenAnswer(invocation -> {
+            double waiting = shared() + THREADS - 1;
+            return slowQuery(() -> shared() >= waiting);
+        });
+
+        burst(() -> scheduleService.getDailyDetailSchedules(DATE));
+        assertThat(queries).hasValue(1);
+
+        // 일별 조회는 결과를 보관하지 않으므로 실행이 끝나면 다음 동시 조회가 새로 실행
+        burst(() -> scheduleService.getDailyDetailSchedules(DATE));
+        assertThat(queries).hasValue(2);
+        assertThat(shared() - sharedBefore).isEqualTo(2.0 * (THREADS - 1));
+    }
+
+    @Test
+    void waiterStopsWaitingAfterMaxWait() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", meterRegistry, Duration.ofMillis(50));
+        CountDownLatch stuck = new CountDownLatch(1);
+        CompletableFuture.runAsync(() -> flight.execute("key", () -> {
+            try {
+                stuck.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }));
+        while (meterRegistry.get("app.schedule.coalesced.calls").tag("query", "test").tag("result", "executed")
+                .counter().count() < 1) {
+            Thread.sleep(1);
+        }
+
+        // 먼저 시작한 조회가 멈춰 있어도 기다리던 호출은 maxWait 뒤에 직접 조회
+        assertThat(flight.execute("key", () -> "own")).isEqualTo("own");
+        stuck.countDown();
+    }
+
+    private List<List<ScheduleResponseDto>> burst(Supplier<List<ScheduleResponseDto>> read) throws Exception {
+        return ConcurrentBurst.run(THREADS, TIMEOUT, thread -> {
+            started.incrementAndGet();
+            return read.get();
+        });
+    }
+
+    /**
+     * 이번 동시 조회의 나머지 요청이 모두 기다리기 시작한 뒤(released)에 결과 반환
+     * - 월 조회는 캐시 로드를 기다리는 요청 수를 알 수 없으므로 모두 출발한 뒤 잠시 더 붙잡아 둠
+     */
+    private List<ScheduleResponseDto> slowQuery(Supplier<Boolean> released) throws InterruptedException {
+        queries.incrementAndGet();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!released.get() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(20);
+        return List.of(new ScheduleResponseDto(1L, 0L, "팀", null, DATE,
+                LocalTime.of(10, 0), LocalTime.of(11, 0), null, null));
+    }
+
+    private double shared() {
+        return meterRegistry.get("app.schedule.coalesced.calls")
+                .tag("query", "day")
+                .tag("result", "shared")
+                .counter()
+                .count();
+    }
+}
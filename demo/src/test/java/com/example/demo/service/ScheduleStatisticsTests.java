@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.ScheduleStatisticsDto;
+import com.example.demo.repository.ScheduleRepository;
+
+/**
+ * 등록/수정/삭제 후 증분 반영한 월 통계가 다시 집계한 결과와 같은지 확인
+ */
+@SpringBootTest
+class ScheduleStatisticsTests {
+
+    private static final YearMonth MONTH = YearMonth.of(2091, 5);
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ScheduleStatistics scheduleStatistics;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ScheduleSeriesService seriesService;
+
+    @Test
+    void incrementalMonthStatisticsMatchRecomputation() {
+        // 먼저 조회해 집계를 보관한 뒤, 이후 쓰기는 증분으로만 반영되게 함
+        assertThat(scheduleStatistics.forMonth(MONTH).getTotalSchedules()).isZero();
+
+        Long first = scheduleService.createSchedule(request("통계A팀", MONTH.atDay(3), 9, 11)).getId();
+        Long second = scheduleService.createSchedule(request("통계B팀", MONTH.atDay(4), 13, 14)).getId();
+        ScheduleStatisticsDto created = assertMatchesRecomputation();
+        assertThat(created.getTotalSchedules()).isEqualTo(2);
+        assertThat(created.getBookedMinutes()).isEqualTo(180);
+        assertThat(created.getDailyCounts().get(MONTH.atDay(3))).isEqualTo(1);
+        assertThat(created.getDailyCounts().get(MONTH.atDay(4))).isEqualTo(1);
+        assertThat(created.getUtilization()).isEqualTo(180.0 / (MONTH.lengthOfMonth() * 24 * 60));
+
+        // 날짜/팀/시간을 모두 바꾸면 이전 값은 빠지고 새 값이 더해짐
+        scheduleService.updateSchedule(first, request("통계B팀", MONTH.atDay(10), 9, 12));
+        ScheduleStatisticsDto updated = assertMatchesRecomputation();
+        assertThat(updated.getDailyCounts().get(MONTH.atDay(3))).isZero();
+        assertThat(updated.getDailyCounts().get(MONTH.atDay(10))).isEqualTo(1);
+        assertThat(updated.getBookedMinutes()).isEqualTo(240);
+        assertThat(updated.getTeams()).singleElement().satisfies(team -> {
+            assertThat(team.getTeamName()).isEqualTo("통계B팀");
+            assertThat(team.getScheduleCount()).isEqualTo(2);
+            assertThat(team.getBookedHours()).isEqualTo(4.0);
+        });
+
+        scheduleService.deleteSchedule(second);
+        ScheduleStatisticsDto deleted = assertMatchesRecomputation();
+        assertThat(deleted.getTotalSchedules()).isEqualTo(1);
+        assertThat(deleted.getBookedMinutes()).isEqualTo(180);
+        assertThat(deleted.getDailyCounts().get(MONTH.atDay(4))).isZero();
+    }
+
+    /**
+     * 보관된 집계가 없는 새 인스턴스로 같은 월을 다시 집계해 비교
+     */
+    private ScheduleStatisticsDto assertMatchesRecomputation() {
+        ScheduleStatisticsDto incremental = scheduleStatistics.forMonth(MONTH);
+        ScheduleStatisticsDto recomputed = new ScheduleStatistics(scheduleRepository, seriesService).forMonth(MONTH);
+        assertThat(incremental).isEqualTo(recomputed);
+        return incremental;
+    }
+
+    private static ScheduleRequestDto request(String teamName, LocalDate date, int startHour, int endHour) {
+        return ScheduleRequestDto.builder()
+                .teamName(teamName)
+                .scheduleDate(date)
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .build();
+    }
+}
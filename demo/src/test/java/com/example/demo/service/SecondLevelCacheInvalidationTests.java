@@ -0,0 +1,122 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.dto.PostDto;
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.ScheduleResponseDto;
+import com.example.demo.entity.Post;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.repository.ScheduleRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * l2cache 프로필에서 캐시된 엔티티/쿼리 결과가 쓰기 이후 오래된 값을 돌려주지 않는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("l2cache")
+class SecondLevelCacheInvalidationTests {
+
+    private static final LocalDate DATE = LocalDate.of(2096, 5, 1);
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void scheduleEntityCacheFollowsUpdateAndDelete() {
+        ScheduleResponseDto created = scheduleService.createSchedule(request("캐시팀", DATE, LocalTime.of(9, 0)));
+        scheduleService.getScheduleById(created.getId());
+        long hitsBefore = regionHits(statistics.getDomainDataRegionStatistics("schedule"));
+        scheduleService.getScheduleById(created.getId());
+        assertThat(regionHits(statistics.getDomainDataRegionStatistics("schedule"))).isGreaterThan(hitsBefore);
+
+        ScheduleRequestDto update = request("캐시팀수정", DATE, LocalTime.of(9, 0));
+        update.setVersion(created.getVersion());
+        scheduleService.updateSchedule(created.getId(), update);
+        assertThat(scheduleService.getScheduleById(created.getId()).getTeamName()).isEqualTo("캐시팀수정");
+
+        scheduleService.deleteSchedule(created.getId());
+        assertThatThrownBy(() -> scheduleService.getScheduleById(created.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void dateQueryCacheIsInvalidatedByScheduleWrites() {
+        LocalDate date = DATE.plusDays(1);
+        scheduleService.createSchedule(request("쿼리캐시팀", date, LocalTime.of(9, 0)));
+        assertThat(scheduleService.getSchedulesByDate(date)).hasSize(1);
+        CacheRegionStatistics region = statistics.getQueryRegionStatistics(
+                ScheduleRepository.SCHEDULE_RANGE_QUERY_REGION);
+        long hitsBefore = regionHits(region);
+        assertThat(scheduleService.getSchedulesByDate(date)).hasSize(1);
+        assertThat(regionHits(region)).isGreaterThan(hitsBefore);
+
+        // schedule 테이블에 쓰면 같은 날짜 조회가 캐시된 결과 대신 새 결과를 반환
+        scheduleService.createSchedule(request("쿼리캐시팀", date, LocalTime.of(10, 0)));
+        assertThat(scheduleService.getSchedulesByDate(date))
+                .extracting(ScheduleResponseDto::getStartTime)
+                .containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0));
+    }
+
+    @Test
+    void viewFlushEvictsCachedPost() {
+        Post post = postService.createPost(postDto());
+        assertThat(postService.getPostById(post.getId()).getViews()).isZero();
+
+        // 조회수는 JDBC로 반영하므로 캐시에서 직접 제거하지 않으면 이전 조회수가 남음
+        postService.countView(post.getId());
+        postViewCounter.flush();
+        assertThat(postService.getPostById(post.getId()).getViews()).isEqualTo(1);
+    }
+
+    private static long regionHits(CacheRegionStatistics region) {
+        return region == null ? 0 : region.getHitCount();
+    }
+
+    private static ScheduleRequestDto request(String teamName, LocalDate date, LocalTime startTime) {
+        return ScheduleRequestDto.builder()
+                .teamName(teamName)
+                .scheduleDate(date)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .build();
+    }
+
+    private static PostDto postDto() {
+        PostDto postDto = new PostDto();
+        postDto.setTitle("캐시 게시글");
+        postDto.setAuthor("작성자");
+        postDto.setContent("본문");
+        return postDto;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.demo.dto.MemberDto;
+import com.example.demo.dto.ScheduleRequestDto;
+import com.example.demo.dto.TeamDto;
+import com.example.demo.support.ConcurrentBurst;
+
+/**
+ * 같은 새 팀/팀원 이름으로 여러 일정을 동시에 등록해도 유니크 인덱스 충돌로 실패하지 않는지 확인
+ */
+@SpringBootTest
+class TeamServiceConcurrencyTests {
+
+    private static final int THREADS = 8;
+    private static final String TEAM_NAME = "동시생성팀";
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Test
+    void concurrentCreatesShareOneTeamAndMemberRow() throws Exception {
+        ConcurrentBurst.run(THREADS, Duration.ofSeconds(60), thread ->
+                scheduleService.createSchedule(ScheduleRequestDto.builder()
+                        .teamName(TEAM_NAME)
+                        .teamMembers("동시생성A, 동시생성B")
+                        .scheduleDate(LocalDate.of(2098, 1, 1).plusDays(thread))
+                        .startTime(LocalTime.of(10, 0))
+                        .endTime(LocalTime.of(11, 0))
+                        .build()));
+
+        assertThat(teamService.findTeamId(TEAM_NAME)).isPresent();
+        assertThat(teamService.searchMembers("동시생성", 10))
+                .extracting(MemberDto::getName)
+                .containsExactly("동시생성A", "동시생성B");
+        // 최근 사용 팀 목록은 생성 순이 아니라 마지막으로 일정에 연결된 순
+        assertThat(teamService.getRecentTeams(1))
+                .extracting(TeamDto::getName)
+                .containsExactly(TEAM_NAME);
+    }
+
+    @Test
+    void concurrentCreatesAddNewTeamMemberOnce() throws Exception {
+        String teamName = "동시소속팀";
+        scheduleService.createSchedule(request(teamName, "동시소속A", LocalDate.of(2098, 2, 1)));
+
+        // 이미 있는 팀에 처음 속하는 팀원을 여러 요청이 동시에 추가
+        ConcurrentBurst.run(THREADS, Duration.ofSeconds(60), thread ->
+                scheduleService.createSchedule(request(teamName, "동시소속A, 동시소속B",
+                        LocalDate.of(2098, 2, 2).plusDays(thread))));
+
+        assertThat(teamService.getRecentTeams(10))
+                .filteredOn(team -> team.getName().equals(teamName))
+                .singleElement()
+                .extracting(TeamDto::getMembers)
+                .isEqualTo(List.of("동시소속A", "동시소속B"));
+    }
+
+    private static ScheduleRequestDto request(String teamName, String members, LocalDate date) {
+        return ScheduleRequestDto.builder()
+                .teamName(teamName)
+                .teamMembers(members)
+                .scheduleDate(date)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 0))
+                .build();
+    }
+}
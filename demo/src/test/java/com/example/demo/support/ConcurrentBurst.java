@@ -0,0 +1,59 @@
+package com.example.demo.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 같은 작업을 여러 스레드에서 동시에 시작시키는 테스트 도우미
+ * - 모든 스레드가 준비된 뒤 한꺼번에 출발시키고, 스레드 번호 순서대로 결과 반환
+ * - timeout 안에 끝나지 않은 작업이 있으면 TimeoutException (작업 중 예외는 ExecutionException)
+ */
+public final class ConcurrentBurst {
+
+    private ConcurrentBurst() {
+    }
+
+    public static <T> List<T> run(int threads, Duration timeout, Task<T> task) throws Exception {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<T>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return task.call(thread);
+                }));
+            }
+
+            long deadline = System.nanoTime() + timeout.toNanos();
+            if (!ready.await(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("Threads did not start within " + timeout);
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>(threads);
+            for (Future<T> future : futures) {
+                results.add(future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Task<T> {
+
+        T call(int thread) throws Exception;
+    }
+}